@@ -3,14 +3,14 @@ package com.company.appearance.client;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
@@ -23,10 +23,14 @@ import com.company.appearance.dto.face.FaceDatabaseSaveResponse;
 import com.company.appearance.dto.face.FaceDatabaseDeleteResponse;
 import com.company.appearance.exception.face.FaceApiException;
 import com.company.appearance.util.face.MultipartUtil;
+import com.company.appearance.util.face.StreamingMultipartBody;
 
 /**
  * Client for communicating with the external Face API service.
- * Uses Spring's RestClient for synchronous HTTP operations.
+ * Uses Spring's RestClient for synchronous HTTP operations over the pooled
+ * client from {@link com.company.appearance.config.face.FaceApiHttpClientConfig}.
+ * Image uploads are sent as {@link StreamingMultipartBody} so crops are written
+ * directly to the connection with chunked transfer instead of being buffered.
  */
 @Component
 public class FaceApiClient {
@@ -36,10 +40,13 @@ public class FaceApiClient {
     private final RestClient restClient;
     private final MultipartUtil multipartUtil;
 
-    public FaceApiClient(FaceApiProperties properties, MultipartUtil multipartUtil) {
+    public FaceApiClient(FaceApiProperties properties,
+                         MultipartUtil multipartUtil,
+                         @Qualifier("faceApiHttpClient") CloseableHttpClient httpClient) {
         this.multipartUtil = multipartUtil;
         this.restClient = RestClient.builder()
             .baseUrl(properties.getBaseUrl())
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
             .build();
         
         logger.info("Initialized Face API client with base URL: {}", properties.getBaseUrl());
@@ -58,18 +65,9 @@ public class FaceApiClient {
     public ExternalFaceApiRegisterResponse registerFaces(String name, List<byte[]> croppedFaceImages, 
                                               String model, Integer minQuality) {
         try {
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            
-            // Add all face images as files[]
-            for (int i = 0; i < croppedFaceImages.size(); i++) {
-                byte[] imageBytes = croppedFaceImages.get(i);
-                String filename = "face_" + i + ".jpg";
-                HttpEntity<Resource> fileEntity = multipartUtil.createFileEntity(imageBytes, filename);
-                body.add("files", fileEntity);
-            }
-
-            // Add name as form field
-            body.add("name", name);
+            // Stream all face images as files[] followed by the name field
+            StreamingMultipartBody body = multipartUtil.createStreamingImageBody("files", croppedFaceImages, "face")
+                .addText("name", name);
 
             // Build URI safely with UriComponentsBuilder
             UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromPath("/register")
@@ -87,6 +85,7 @@ public class FaceApiClient {
 
             ResponseEntity<ExternalFaceApiRegisterResponse> response = restClient.post()
                 .uri(uri)
+                .contentType(body.getContentType())
                 .body(body)
                 .retrieve()
                 .toEntity(ExternalFaceApiRegisterResponse.class);
@@ -116,8 +115,8 @@ public class FaceApiClient {
      */
     public Map<String, Object> recognizeFace(byte[] croppedFaceImage, String model, Double threshold) {
         try {
-            HttpEntity<Resource> fileEntity = multipartUtil.createFileEntity(croppedFaceImage, "face.jpg");
-            MultiValueMap<String, Object> body = multipartUtil.createMultipartBody("file", fileEntity);
+            StreamingMultipartBody body = new StreamingMultipartBody()
+                .addFile("file", "face.jpg", MediaType.IMAGE_JPEG, croppedFaceImage);
 
             UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromPath("/recognize")
                 .queryParam("model", model)
@@ -129,6 +128,7 @@ public class FaceApiClient {
 
             ResponseEntity<Map<String, Object>> response = restClient.post()
                 .uri(uri)
+                .contentType(body.getContentType())
                 .body(body)
                 .retrieve()
                 .toEntity(new org.springframework.core.ParameterizedTypeReference<Map<String, Object>>() {});
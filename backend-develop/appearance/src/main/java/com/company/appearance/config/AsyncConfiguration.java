@@ -1,15 +1,128 @@
 package com.company.appearance.config;
 
+import com.company.appearance.config.google.GoogleChatProperties;
+import com.company.appearance.config.google.GoogleSheetsProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration for enabling asynchronous method execution.
- * Used for Google Chat notifications and Google Sheets export.
+ * Used by the outbox poller to deliver Google Chat notifications and Google
+ * Sheets exports.
+ *
+ * Each integration gets its own bounded pool, so a slow webhook cannot hold up
+ * Sheets appends. When a queue is full the task is dropped, logged and counted;
+ * the outbox rows stay pending and are picked up by the next poll. On
+ * shutdown, queued tasks are drained for up to the configured number of seconds.
+ *
+ * Metrics (tag name=google-chat|google-sheets): executor.* from Micrometer's
+ * ExecutorServiceMetrics (queued, active, pool size, completed), plus
+ * integration.task.wait (queue time), integration.task.duration (run time) and
+ * integration.task.rejected.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfiguration {
-    // Spring will use default SimpleAsyncTaskExecutor
-    // For production, consider configuring a ThreadPoolTaskExecutor
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfiguration.class);
+
+    @Bean(name = "googleChatExecutor")
+    public ThreadPoolTaskExecutor googleChatExecutor(GoogleChatProperties properties, MeterRegistry meterRegistry) {
+        return boundedExecutor("google-chat", properties.getExecutorThreads(), properties.getExecutorQueueCapacity(),
+            properties.getExecutorAwaitTerminationSeconds(), meterRegistry);
+    }
+
+    @Bean(name = "googleSheetsExecutor")
+    public ThreadPoolTaskExecutor googleSheetsExecutor(GoogleSheetsProperties properties, MeterRegistry meterRegistry) {
+        return boundedExecutor("google-sheets", properties.getExecutorThreads(), properties.getExecutorQueueCapacity(),
+            properties.getExecutorAwaitTerminationSeconds(), meterRegistry);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, int threads, int queueCapacity,
+                                                   int awaitTerminationSeconds, MeterRegistry meterRegistry) {
+        int poolSize = Math.max(1, threads);
+        Tags tags = Tags.of("name", name);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setTaskDecorator(new TimedTaskDecorator(
+            meterRegistry.timer("integration.task.wait", tags),
+            meterRegistry.timer("integration.task.duration", tags)));
+        executor.setRejectedExecutionHandler(new DropAndCountPolicy(name,
+            meterRegistry.counter("integration.task.rejected", tags)));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, tags).bindTo(meterRegistry);
+
+        logger.info("Initialized {} executor with {} threads, queue capacity {}", name, poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * Records how long each task waited in the queue and how long it ran.
+     * Decoration happens at submission, so the submit time is captured here.
+     */
+    private static class TimedTaskDecorator implements TaskDecorator {
+        private final Timer waitTimer;
+        private final Timer durationTimer;
+
+        TimedTaskDecorator(Timer waitTimer, Timer durationTimer) {
+            this.waitTimer = waitTimer;
+            this.durationTimer = durationTimer;
+        }
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    runnable.run();
+                } finally {
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        }
+    }
+
+    /**
+     * Drops the task when the queue is full, so callers never block on a best-effort side effect.
+     */
+    private static class DropAndCountPolicy implements RejectedExecutionHandler {
+        private final String name;
+        private final Counter rejected;
+
+        DropAndCountPolicy(String name, Counter rejected) {
+            this.name = name;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            rejected.increment();
+            logger.warn("{} executor {}; task dropped (queued: {})", name,
+                executor.isShutdown() ? "is shut down" : "queue is full", executor.getQueue().size());
+        }
+    }
 }
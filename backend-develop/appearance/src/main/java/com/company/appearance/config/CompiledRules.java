@@ -0,0 +1,138 @@
+package com.company.appearance.config;
+
+import com.company.appearance.model.AppearanceCriteria;
+import com.company.appearance.model.AppearanceRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, pre-resolved form of {@link RuleConfig}.
+ * Required rule names are resolved to {@link AppearanceRule} predicates once at
+ * load time, so evaluation does no reflection or string handling and an unknown
+ * rule name fails when the configuration is loaded.
+ *
+ * Each snapshot carries the version of the file it was compiled from. The score
+ * and pose sections belong to the snapshot and must not be modified.
+ */
+public final class CompiledRules {
+
+    private final String version;
+    private final RuleConfig ruleConfig;
+    private final AppearanceRule[] required;
+
+    private CompiledRules(String version, RuleConfig ruleConfig, AppearanceRule[] required) {
+        this.version = version;
+        this.ruleConfig = ruleConfig;
+        this.required = required;
+    }
+
+    /**
+     * Compiles a loaded rule configuration.
+     *
+     * @param ruleConfig rule configuration parsed from JSON
+     * @param version version of the source file
+     * @return compiled rules
+     * @throws IllegalStateException if a section is missing, a threshold is inconsistent or a rule name is unknown
+     */
+    public static CompiledRules compile(RuleConfig ruleConfig, String version) {
+        if (ruleConfig.getRequired() == null) {
+            throw new IllegalStateException("'required' rules are missing in rule-config.json");
+        }
+        validateScore(ruleConfig.getScore());
+        validatePose(ruleConfig.getPose());
+
+        AppearanceRule[] required = new AppearanceRule[ruleConfig.getRequired().size()];
+        for (int i = 0; i < required.length; i++) {
+            String name = ruleConfig.getRequired().get(i);
+            try {
+                required[i] = AppearanceRule.fromKey(name);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unknown rule '" + name + "' in rule-config.json. Supported rules: "
+                        + Arrays.stream(AppearanceRule.values()).map(AppearanceRule::getKey).toList(), e);
+            }
+        }
+        return new CompiledRules(version, ruleConfig, required);
+    }
+
+    private static void validateScore(RuleConfig.Score score) {
+        if (score == null) {
+            throw new IllegalStateException("'score' section is missing in rule-config.json");
+        }
+        if (score.getPenaltyPerViolation() < 0) {
+            throw new IllegalStateException("score.penaltyPerViolation must not be negative");
+        }
+        if (score.getMinScore() > score.getBase()) {
+            throw new IllegalStateException("score.minScore must not exceed score.base");
+        }
+    }
+
+    private static void validatePose(RuleConfig.Pose pose) {
+        if (pose == null) {
+            // Pose checks are optional; evaluation reports the missing section when pose data arrives
+            return;
+        }
+        requireOrdered("head", pose.getHeadGoodMax(), pose.getHeadWarnMax());
+        requireOrdered("shoulder", pose.getShoulderGoodMax(), pose.getShoulderWarnMax());
+        requireOrdered("forwardHead", pose.getForwardHeadGoodMax(), pose.getForwardHeadWarnMax());
+        requireOrdered("back", pose.getBackGoodMax(), pose.getBackWarnMax());
+        requireOrdered("stability", pose.getStabilityWarnMin(), pose.getStabilityGoodMin());
+        requireOrdered("arm", pose.getArmWarnMin(), pose.getArmBadMin());
+        requireOrdered("leg", pose.getLegWarnMin(), pose.getLegBadMin());
+    }
+
+    private static void requireOrdered(String metric, double lower, double upper) {
+        if (lower > upper) {
+            throw new IllegalStateException("pose thresholds for " + metric + " are out of order: " + lower + " > " + upper);
+        }
+    }
+
+    /**
+     * Collects the violation message of every required rule the criteria do not satisfy.
+     *
+     * @param criteria appearance criteria
+     * @return violation messages in rule order
+     */
+    public List<String> collectViolations(AppearanceCriteria criteria) {
+        List<String> violations = new ArrayList<>(required.length);
+        for (AppearanceRule rule : required) {
+            if (!rule.isSatisfiedBy(criteria)) {
+                violations.add(rule.getViolationMessage());
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Computes the violation mask of the criteria: the OR of every unsatisfied required rule.
+     *
+     * @param criteria appearance criteria
+     * @return violation mask, 0 when all required rules are satisfied
+     */
+    public int violationMask(AppearanceCriteria criteria) {
+        int mask = 0;
+        for (AppearanceRule rule : required) {
+            if (!rule.isSatisfiedBy(criteria)) {
+                mask |= rule.getMask();
+            }
+        }
+        return mask;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<AppearanceRule> getRequired() {
+        return List.of(required);
+    }
+
+    public RuleConfig.Score getScore() {
+        return ruleConfig.getScore();
+    }
+
+    public RuleConfig.Pose getPose() {
+        return ruleConfig.getPose();
+    }
+}
@@ -0,0 +1,49 @@
+package com.company.appearance.config;
+
+import com.company.appearance.model.AppearanceEvaluation;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the evaluation id sequence past ids that already exist.
+ *
+ * Evaluation ids used to come from the AUTO_INCREMENT column. On MySQL the new
+ * sequence is emulated by a one-row table that starts at 1, so without this
+ * step the first pooled block would collide with existing rows. Runs once at
+ * startup, after Hibernate has created the sequence table; it never moves the
+ * sequence backwards.
+ */
+@Component
+public class EvaluationIdSequenceAligner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationIdSequenceAligner.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param entityManagerFactory injected so the schema update has run before alignment
+     */
+    public EvaluationIdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        // Hibernate's pooled optimizer reads next_val = v, stores v + allocation and hands out
+        // ids v - allocation + 1 .. v (the block ends at the value read). With
+        // v = MAX(id) + allocation + 1 the first block is MAX(id) + 2 .. MAX(id) + allocation + 1,
+        // above every existing id; the following blocks only move up from there.
+        // GREATEST keeps a sequence that is already ahead untouched.
+        int updated = jdbcTemplate.update(
+            "UPDATE " + AppearanceEvaluation.ID_SEQUENCE
+                + " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + ? + 1 FROM appearance_evaluations))",
+            AppearanceEvaluation.ID_ALLOCATION_SIZE);
+        if (updated == 0) {
+            logger.warn("Sequence table {} has no row; evaluation ids were not aligned", AppearanceEvaluation.ID_SEQUENCE);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.appearance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for appearance evaluation endpoints.
+ * Binds properties with prefix "app.evaluations" from application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.evaluations")
+public class EvaluationProperties {
+
+    /**
+     * Maximum number of evaluations accepted by one batch request.
+     */
+    private Integer batchMaxItems = 500;
+
+    /**
+     * Page size used by listing endpoints when none is requested.
+     */
+    private Integer defaultPageSize = 50;
+
+    /**
+     * Largest page size a listing request may ask for.
+     */
+    private Integer maxPageSize = 200;
+
+    public Integer getBatchMaxItems() {
+        return batchMaxItems;
+    }
+
+    public void setBatchMaxItems(Integer batchMaxItems) {
+        this.batchMaxItems = batchMaxItems;
+    }
+
+    public Integer getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    public void setDefaultPageSize(Integer defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    public Integer getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(Integer maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+}
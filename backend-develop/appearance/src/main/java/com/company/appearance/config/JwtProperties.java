@@ -29,6 +29,11 @@ public class JwtProperties {
      */
     private Long refreshExpirationSeconds;
 
+    /**
+     * Maximum number of verified tokens cached until their expiry (0 disables the cache).
+     */
+    private Integer verificationCacheSize = 10_000;
+
     public String getSecret() {
         return secret;
     }
@@ -52,4 +57,12 @@ public class JwtProperties {
     public void setRefreshExpirationSeconds(Long refreshExpirationSeconds) {
         this.refreshExpirationSeconds = refreshExpirationSeconds;
     }
+
+    public Integer getVerificationCacheSize() {
+        return verificationCacheSize;
+    }
+
+    public void setVerificationCacheSize(Integer verificationCacheSize) {
+        this.verificationCacheSize = verificationCacheSize;
+    }
 }
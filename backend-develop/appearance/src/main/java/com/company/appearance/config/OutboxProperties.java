@@ -0,0 +1,106 @@
+package com.company.appearance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the integration outbox.
+ * Binds properties with prefix "app.outbox" from application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Delay in milliseconds between polls of each channel.
+     */
+    private Long pollIntervalMs = 2000L;
+
+    /**
+     * Rows claimed per dispatch; Google Sheets appends them in one request.
+     */
+    private Integer batchSize = 100;
+
+    /**
+     * Attempts before a row is dead-lettered.
+     */
+    private Integer maxAttempts = 10;
+
+    /**
+     * Delay in milliseconds before the first retry; doubled on every further failure.
+     */
+    private Long initialBackoffMs = 5000L;
+
+    /**
+     * Upper bound in milliseconds for the retry delay.
+     */
+    private Long maxBackoffMs = 3_600_000L;
+
+    /**
+     * Time in milliseconds a claimed row stays reserved for its dispatcher.
+     * Must exceed the time to deliver one batch; rows of a dispatcher that
+     * dies mid-delivery become due again after it.
+     */
+    private Long leaseMs = 300_000L;
+
+    /**
+     * Days to keep SENT rows. DEAD rows are kept for inspection.
+     */
+    private Integer retentionDays = 7;
+
+    public Long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(Long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Long getInitialBackoffMs() {
+        return initialBackoffMs;
+    }
+
+    public void setInitialBackoffMs(Long initialBackoffMs) {
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    public Long getMaxBackoffMs() {
+        return maxBackoffMs;
+    }
+
+    public void setMaxBackoffMs(Long maxBackoffMs) {
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    public Long getLeaseMs() {
+        return leaseMs;
+    }
+
+    public void setLeaseMs(Long leaseMs) {
+        this.leaseMs = leaseMs;
+    }
+
+    public Integer getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(Integer retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+}
@@ -1,34 +1,183 @@
 package com.company.appearance.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Loads rule configuration from rule-config.json.
+ * Loads rule configuration from rule-config.json and compiles it into
+ * {@link CompiledRules}.
+ *
+ * The rules come from {@code app.rules.location} when set, otherwise from the
+ * bundled classpath file. An external file is watched with a WatchService; each
+ * change is parsed, validated and compiled, then published by swapping an
+ * {@link AtomicReference}. Readers never lock, and a caller that already holds a
+ * snapshot keeps using it until it asks again. An invalid edit is logged and the
+ * previous version stays active. Startup fails if the initial file is invalid.
  */
 @Component
 public class RuleConfigLoader {
 
-    private RuleConfig ruleConfig;
+    private static final Logger logger = LoggerFactory.getLogger(RuleConfigLoader.class);
 
-    public RuleConfigLoader() {
-        loadRules();
-    }
+    private static final String CLASSPATH_LOCATION = "rule-config.json";
+
+    private final RuleConfigProperties properties;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicReference<CompiledRules> current = new AtomicReference<>();
+
+    private WatchService watchService;
+    private Thread watchThread;
 
-    private void loadRules() {
+    public RuleConfigLoader(RuleConfigProperties properties) {
+        this.properties = properties;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            InputStream inputStream = new ClassPathResource("rule-config.json").getInputStream();
-            this.ruleConfig = mapper.readValue(inputStream, RuleConfig.class);
+            current.set(loadRules());
         } catch (Exception e) {
             throw new RuntimeException("Failed to load rule-config.json", e);
         }
+        logger.info("Loaded rule-config.json version {} from {}", current.get().getVersion(), describeSource());
+    }
+
+    @PostConstruct
+    public void startWatching() {
+        Path file = externalFile();
+        if (file == null || !Boolean.TRUE.equals(properties.getWatch())) {
+            return;
+        }
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot watch rule config file " + file, e);
+        }
+
+        watchThread = new Thread(() -> watch(file), "rule-config-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        logger.info("Watching {} for rule changes", file);
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close rule config watcher", e);
+            }
+        }
+    }
+
+    /**
+     * Gets the active rule snapshot. Callers should read it once per evaluation.
+     */
+    public CompiledRules getCompiledRules() {
+        return current.get();
+    }
+
+    /**
+     * Reloads the rules now, keeping the current version if the file is invalid.
+     *
+     * @return true if a new version was published
+     */
+    public boolean reload() {
+        try {
+            CompiledRules loaded = loadRules();
+            CompiledRules previous = current.get();
+            if (previous != null && previous.getVersion().equals(loaded.getVersion())) {
+                return false;
+            }
+            current.set(loaded);
+            logger.info("Reloaded rule-config.json: version {} -> {}",
+                previous != null ? previous.getVersion() : null, loaded.getVersion());
+            return true;
+        } catch (Exception e) {
+            logger.error("Rejected rule-config.json change, keeping version {}: {}",
+                current.get().getVersion(), e.getMessage());
+            return false;
+        }
     }
 
-    public RuleConfig getRuleConfig() {
-        return ruleConfig;
+    private void watch(Path file) {
+        Path fileName = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private CompiledRules loadRules() throws IOException {
+        byte[] content;
+        Path file = externalFile();
+        if (file != null) {
+            content = Files.readAllBytes(file);
+        } else {
+            try (InputStream inputStream = new ClassPathResource(CLASSPATH_LOCATION).getInputStream()) {
+                content = inputStream.readAllBytes();
+            }
+        }
+
+        RuleConfig ruleConfig = mapper.readValue(content, RuleConfig.class);
+        return CompiledRules.compile(ruleConfig, version(content));
+    }
+
+    private Path externalFile() {
+        String location = properties.getLocation();
+        return location == null || location.isBlank() ? null : Path.of(location);
+    }
+
+    private String describeSource() {
+        Path file = externalFile();
+        return file != null ? file.toAbsolutePath().toString() : "classpath:" + CLASSPATH_LOCATION;
+    }
+
+    /**
+     * Content hash, so the same rules map to the same version across restarts.
+     */
+    private static String version(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
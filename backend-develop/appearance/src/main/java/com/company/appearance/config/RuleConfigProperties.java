@@ -0,0 +1,39 @@
+package com.company.appearance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for appearance rule loading.
+ * Binds properties with prefix "app.rules" from application.properties.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rules")
+public class RuleConfigProperties {
+
+    /**
+     * External path of rule-config.json. When empty, the bundled classpath file is used.
+     */
+    private String location = "";
+
+    /**
+     * Reload the external file automatically when it changes.
+     */
+    private Boolean watch = true;
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Boolean getWatch() {
+        return watch;
+    }
+
+    public void setWatch(Boolean watch) {
+        this.watch = watch;
+    }
+}
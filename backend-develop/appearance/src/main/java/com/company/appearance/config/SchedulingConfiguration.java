@@ -0,0 +1,13 @@
+package com.company.appearance.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for enabling scheduled tasks.
+ * Used for periodic flushes of buffered integration work.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
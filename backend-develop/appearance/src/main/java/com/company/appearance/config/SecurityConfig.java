@@ -102,6 +102,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/face/database/info")
                         .hasAnyAuthority("ROLE_ADMIN", "ROLE_EVALUATOR")
 
+                        // Actuator (health, metrics)
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
+
                         .anyRequest().authenticated())
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
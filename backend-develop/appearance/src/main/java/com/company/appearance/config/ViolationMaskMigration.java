@@ -0,0 +1,98 @@
+package com.company.appearance.config;
+
+import com.company.appearance.model.AppearanceRule;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves violations from the old appearance_evaluation_violations table into
+ * appearance_evaluations.violation_mask.
+ *
+ * Runs at startup while the old table exists: each stored message (or rule key)
+ * is mapped to its {@link AppearanceRule} bit and OR-ed into the mask, then the
+ * original rows are copied into an archive table and the old table is dropped,
+ * so the migration runs only once. The updates are idempotent, so an
+ * interrupted run is simply repeated on the next start.
+ *
+ * The archive has no foreign key to appearance_evaluations (a renamed legacy
+ * table would keep it), so deleting an evaluation, or the employee it cascades
+ * from, is never blocked by an archived violation row.
+ */
+@Component
+public class ViolationMaskMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViolationMaskMigration.class);
+
+    static final String LEGACY_TABLE = "appearance_evaluation_violations";
+    static final String MIGRATED_TABLE = "appearance_evaluation_violations_migrated";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param entityManagerFactory injected so the violation_mask column exists before migrating
+     */
+    public ViolationMaskMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (tableExists(LEGACY_TABLE)) {
+            migrateLegacyTable();
+        }
+    }
+
+    private void migrateLegacyTable() {
+        int updated = 0;
+        for (AppearanceRule rule : AppearanceRule.values()) {
+            updated += jdbcTemplate.update(
+                "UPDATE appearance_evaluations e JOIN " + LEGACY_TABLE + " v ON v.evaluation_id = e.id "
+                    + "SET e.violation_mask = e.violation_mask | ? WHERE v.violation IN (?, ?)",
+                rule.getMask(), rule.getViolationMessage(), rule.getKey());
+        }
+
+        Integer unmapped = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + LEGACY_TABLE + " v WHERE v.violation NOT IN (" + knownViolations() + ")",
+            Integer.class);
+        if (unmapped != null && unmapped > 0) {
+            logger.warn("{} legacy violation rows match no appearance rule and were not migrated; they remain in {}",
+                unmapped, MIGRATED_TABLE);
+        }
+
+        // CREATE TABLE ... AS SELECT copies no keys; an existing archive already holds
+        // the rows of an interrupted run, as the copy is a single statement.
+        if (!tableExists(MIGRATED_TABLE)) {
+            jdbcTemplate.execute("CREATE TABLE " + MIGRATED_TABLE
+                + " AS SELECT evaluation_id, violation FROM " + LEGACY_TABLE);
+        }
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        logger.info("Migrated violations into violation_mask ({} evaluation updates), legacy rows archived in {}",
+            updated, MIGRATED_TABLE);
+    }
+
+    private boolean tableExists(String table) {
+        Integer tables = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+            Integer.class, table);
+        return tables != null && tables > 0;
+    }
+
+    private static String knownViolations() {
+        StringBuilder values = new StringBuilder();
+        for (AppearanceRule rule : AppearanceRule.values()) {
+            if (values.length() > 0) {
+                values.append(", ");
+            }
+            values.append(quote(rule.getViolationMessage())).append(", ").append(quote(rule.getKey()));
+        }
+        return values.toString();
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,92 @@
+package com.company.appearance.config.face;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration for the pooled HTTP client used by the Face API client.
+ *
+ * Every call has bounded connect, read, response and pool-acquire timeouts, so a
+ * stalled Face API fails the request instead of pinning a servlet thread.
+ * Connections are kept alive between calls and idle ones are evicted in the background.
+ * Pool usage is published under the httpcomponents.httpclient.pool.* metrics
+ * with tag httpclient=face-api.
+ *
+ * Batch recognition fans its Face API calls out on virtual threads, since they
+ * only wait on the network.
+ */
+@Configuration
+public class FaceApiHttpClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaceApiHttpClientConfig.class);
+
+    @Bean(name = "faceApiConnectionManager", destroyMethod = "close")
+    public PoolingHttpClientConnectionManager faceApiConnectionManager(FaceApiProperties properties,
+                                                                       MeterRegistry meterRegistry) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+            .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "face-api").bindTo(meterRegistry);
+
+        logger.info("Initialized Face API connection pool: max {} total, {} per route",
+            properties.getMaxConnections(), properties.getMaxConnectionsPerRoute());
+        return connectionManager;
+    }
+
+    @Bean(name = "faceApiHttpClient", destroyMethod = "close")
+    public CloseableHttpClient faceApiHttpClient(FaceApiProperties properties,
+                                                 PoolingHttpClientConnectionManager faceApiConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+            .setResponseTimeout(Timeout.ofMilliseconds(properties.getResponseTimeoutMs()))
+            .build();
+
+        long keepAliveMs = properties.getKeepAliveMs();
+
+        return HttpClients.custom()
+            .setConnectionManager(faceApiConnectionManager)
+            // The Spring bean owns the pool lifecycle
+            .setConnectionManagerShared(true)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> {
+                TimeValue announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return announced != null && announced.toMilliseconds() > 0 && announced.toMilliseconds() < keepAliveMs
+                    ? announced
+                    : TimeValue.ofMilliseconds(keepAliveMs);
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEvictionMs()))
+            .build();
+    }
+
+    @Bean(name = "faceApiExecutor", destroyMethod = "shutdown")
+    public ExecutorService faceApiExecutor() {
+        // Calls only wait on the network; concurrency is bounded by the micro-batch size and the connection pool
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("face-api-", 1).factory());
+    }
+}
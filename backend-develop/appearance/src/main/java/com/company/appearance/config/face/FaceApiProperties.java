@@ -31,6 +31,78 @@ public class FaceApiProperties {
      */
     private Integer defaultMinQuality = 1;
 
+    /**
+     * Maximum number of pooled connections.
+     */
+    private Integer maxConnections = 50;
+
+    /**
+     * Maximum number of pooled connections per route (host).
+     */
+    private Integer maxConnectionsPerRoute = 50;
+
+    /**
+     * TCP connect timeout in milliseconds.
+     */
+    private Integer connectTimeoutMs = 3000;
+
+    /**
+     * Socket read timeout (max silence between packets) in milliseconds.
+     */
+    private Integer readTimeoutMs = 30000;
+
+    /**
+     * Maximum time to wait for the response after sending the request, in milliseconds.
+     */
+    private Integer responseTimeoutMs = 30000;
+
+    /**
+     * Maximum time to wait for a free pooled connection, in milliseconds.
+     */
+    private Integer connectionRequestTimeoutMs = 5000;
+
+    /**
+     * Upper bound for keeping an idle connection alive, in milliseconds.
+     * A shorter Keep-Alive timeout announced by the server wins.
+     */
+    private Integer keepAliveMs = 30000;
+
+    /**
+     * Idle connections older than this are evicted by a background thread, in milliseconds.
+     */
+    private Integer idleEvictionMs = 60000;
+
+    /**
+     * Maximum number of images accepted by one batch recognition request.
+     */
+    private Integer batchMaxImages = 32;
+
+    /**
+     * Number of Face API recognition calls sent concurrently per micro-batch.
+     */
+    private Integer batchSize = 4;
+
+    /**
+     * Cache recognition results for near-identical face crops.
+     */
+    private Boolean recognitionCacheEnabled = true;
+
+    /**
+     * Time a cached recognition result stays valid, in milliseconds.
+     */
+    private Long recognitionCacheTtlMs = 10000L;
+
+    /**
+     * Maximum number of cached recognition results.
+     */
+    private Integer recognitionCacheMaxSize = 256;
+
+    /**
+     * Maximum Hamming distance between 64-bit crop hashes for a cache hit.
+     * Keep it small: crops of different people can be only a few bits apart.
+     */
+    private Integer recognitionCacheMaxDistance = 2;
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -62,4 +134,116 @@ public class FaceApiProperties {
     public void setDefaultMinQuality(Integer defaultMinQuality) {
         this.defaultMinQuality = defaultMinQuality;
     }
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Integer getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Integer getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public void setConnectTimeoutMs(Integer connectTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    public Integer getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    public void setReadTimeoutMs(Integer readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    public Integer getResponseTimeoutMs() {
+        return responseTimeoutMs;
+    }
+
+    public void setResponseTimeoutMs(Integer responseTimeoutMs) {
+        this.responseTimeoutMs = responseTimeoutMs;
+    }
+
+    public Integer getConnectionRequestTimeoutMs() {
+        return connectionRequestTimeoutMs;
+    }
+
+    public void setConnectionRequestTimeoutMs(Integer connectionRequestTimeoutMs) {
+        this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+    }
+
+    public Integer getKeepAliveMs() {
+        return keepAliveMs;
+    }
+
+    public void setKeepAliveMs(Integer keepAliveMs) {
+        this.keepAliveMs = keepAliveMs;
+    }
+
+    public Integer getIdleEvictionMs() {
+        return idleEvictionMs;
+    }
+
+    public void setIdleEvictionMs(Integer idleEvictionMs) {
+        this.idleEvictionMs = idleEvictionMs;
+    }
+
+    public Integer getBatchMaxImages() {
+        return batchMaxImages;
+    }
+
+    public void setBatchMaxImages(Integer batchMaxImages) {
+        this.batchMaxImages = batchMaxImages;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Boolean getRecognitionCacheEnabled() {
+        return recognitionCacheEnabled;
+    }
+
+    public void setRecognitionCacheEnabled(Boolean recognitionCacheEnabled) {
+        this.recognitionCacheEnabled = recognitionCacheEnabled;
+    }
+
+    public Long getRecognitionCacheTtlMs() {
+        return recognitionCacheTtlMs;
+    }
+
+    public void setRecognitionCacheTtlMs(Long recognitionCacheTtlMs) {
+        this.recognitionCacheTtlMs = recognitionCacheTtlMs;
+    }
+
+    public Integer getRecognitionCacheMaxSize() {
+        return recognitionCacheMaxSize;
+    }
+
+    public void setRecognitionCacheMaxSize(Integer recognitionCacheMaxSize) {
+        this.recognitionCacheMaxSize = recognitionCacheMaxSize;
+    }
+
+    public Integer getRecognitionCacheMaxDistance() {
+        return recognitionCacheMaxDistance;
+    }
+
+    public void setRecognitionCacheMaxDistance(Integer recognitionCacheMaxDistance) {
+        this.recognitionCacheMaxDistance = recognitionCacheMaxDistance;
+    }
 }
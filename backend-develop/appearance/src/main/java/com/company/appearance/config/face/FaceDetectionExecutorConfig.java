@@ -0,0 +1,89 @@
+package com.company.appearance.config.face;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration for the executor that runs CPU-bound OpenCV work.
+ *
+ * Detection runs on a fixed pool of platform threads sized to the available cores,
+ * so native calls never block more threads than there are CPUs. The queue is bounded.
+ * When it is full, a virtual caller (request thread) blocks until there is room, which
+ * throttles new uploads without pinning carrier threads on native code; a platform
+ * caller runs the task itself.
+ */
+@Configuration
+public class FaceDetectionExecutorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaceDetectionExecutorConfig.class);
+
+    @Bean(name = "faceDetectionExecutor", destroyMethod = "shutdown")
+    public ExecutorService faceDetectionExecutor(FaceDetectionProperties properties) {
+        int threads = properties.getExecutorThreads() != null && properties.getExecutorThreads() > 0
+            ? properties.getExecutorThreads()
+            : Runtime.getRuntime().availableProcessors();
+        int queueCapacity = Math.max(1, properties.getExecutorQueueCapacity());
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new DetectionThreadFactory(),
+            new WaitOrCallerRunsPolicy()
+        );
+
+        logger.info("Initialized face detection executor with {} threads, queue capacity {}", threads, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * Parks virtual callers until the queue has room; platform callers run the task themselves.
+     */
+    private static class WaitOrCallerRunsPolicy implements RejectedExecutionHandler {
+        private final ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if (!Thread.currentThread().isVirtual()) {
+                callerRuns.rejectedExecution(runnable, executor);
+                return;
+            }
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Face detection executor is shut down");
+            }
+            try {
+                executor.getQueue().put(runnable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for the face detection queue", e);
+            }
+        }
+    }
+
+    /**
+     * Creates named daemon platform threads for detection work.
+     */
+    private static class DetectionThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "face-detect-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
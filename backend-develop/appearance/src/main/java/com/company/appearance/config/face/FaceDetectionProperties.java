@@ -1,5 +1,9 @@
 package com.company.appearance.config.face;
 
+import com.company.appearance.model.face.DetectionStrategy;
+import com.company.appearance.model.face.ImageEncoderType;
+import com.company.appearance.model.face.ResizeInterpolation;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -26,11 +30,100 @@ public class FaceDetectionProperties {
      */
     private Integer minFaceSize = 80;
 
+    /**
+     * Scale step between Haar cascade pyramid levels (must be greater than 1.0).
+     */
+    private Double scaleFactor = 1.1;
+
+    /**
+     * Number of neighbouring detections required to keep a candidate box.
+     */
+    private Integer minNeighbors = 3;
+
+    /**
+     * Maximum crop width in pixels before encoding (0 = keep native size).
+     */
+    private Integer cropTargetWidth = 0;
+
+    /**
+     * Maximum crop height in pixels before encoding (0 = keep native size).
+     */
+    private Integer cropTargetHeight = 0;
+
+    /**
+     * Interpolation used when downscaling crops (AREA, LINEAR, CUBIC).
+     */
+    private ResizeInterpolation cropInterpolation = ResizeInterpolation.AREA;
+
+    /**
+     * Pad the resized crop to exactly the target size instead of keeping its aspect-fit size.
+     */
+    private Boolean cropLetterbox = false;
+
+    /**
+     * Encoder for cropped faces (OPENCV or IMAGEIO).
+     */
+    private ImageEncoderType imageEncoder = ImageEncoderType.OPENCV;
+
+    /**
+     * JPEG quality (0-100) for cropped faces.
+     */
+    private Integer jpegQuality = 90;
+
+    /**
+     * IoU above which two boxes are treated as the same face in multi-face detection.
+     */
+    private Double nmsIouThreshold = 0.3;
+
+    /**
+     * Maximum number of faces returned by multi-face detection (0 = unlimited).
+     */
+    private Integer maxFaces = 10;
+
+    /**
+     * Which cascades run and in what order (FRONTAL_FIRST, BOTH, ANGLE_AWARE).
+     */
+    private DetectionStrategy detectionStrategy = DetectionStrategy.ANGLE_AWARE;
+
+    /**
+     * Fast mode: detect on an equalized grayscale copy downscaled to workingWidth,
+     * then map the box back to full-resolution coordinates.
+     */
+    private Boolean fastMode = false;
+
+    /**
+     * Width in pixels of the downscaled detection image used in fast mode.
+     */
+    private Integer workingWidth = 640;
+
     /**
      * Dataset root directory for folder-based registration.
      */
     private String datasetRoot = "data/face-dataset";
 
+    /**
+     * Number of platform threads used for parallel detection and cropping.
+     * 0 means one thread per available processor.
+     */
+    private Integer executorThreads = 0;
+
+    /**
+     * Maximum number of detection tasks waiting for a thread.
+     * When full, the submitting thread runs the task itself.
+     */
+    private Integer executorQueueCapacity = 64;
+
+    /**
+     * Maximum number of cascade classifier pairs shared by detection threads.
+     * 0 means one pair per available processor.
+     */
+    private Integer classifierPoolSize = 0;
+
+    /**
+     * Maximum time in milliseconds to wait for a free cascade classifier pair.
+     */
+    private Long classifierBorrowTimeoutMs = 5000L;
+
     public Double getMarginHorizontal() {
         return marginHorizontal;
     }
@@ -55,6 +148,110 @@ public class FaceDetectionProperties {
         this.minFaceSize = minFaceSize;
     }
 
+    public Double getScaleFactor() {
+        return scaleFactor;
+    }
+
+    public void setScaleFactor(Double scaleFactor) {
+        this.scaleFactor = scaleFactor;
+    }
+
+    public Integer getMinNeighbors() {
+        return minNeighbors;
+    }
+
+    public void setMinNeighbors(Integer minNeighbors) {
+        this.minNeighbors = minNeighbors;
+    }
+
+    public Integer getCropTargetWidth() {
+        return cropTargetWidth;
+    }
+
+    public void setCropTargetWidth(Integer cropTargetWidth) {
+        this.cropTargetWidth = cropTargetWidth;
+    }
+
+    public Integer getCropTargetHeight() {
+        return cropTargetHeight;
+    }
+
+    public void setCropTargetHeight(Integer cropTargetHeight) {
+        this.cropTargetHeight = cropTargetHeight;
+    }
+
+    public ResizeInterpolation getCropInterpolation() {
+        return cropInterpolation;
+    }
+
+    public void setCropInterpolation(ResizeInterpolation cropInterpolation) {
+        this.cropInterpolation = cropInterpolation;
+    }
+
+    public Boolean getCropLetterbox() {
+        return cropLetterbox;
+    }
+
+    public void setCropLetterbox(Boolean cropLetterbox) {
+        this.cropLetterbox = cropLetterbox;
+    }
+
+    public ImageEncoderType getImageEncoder() {
+        return imageEncoder;
+    }
+
+    public void setImageEncoder(ImageEncoderType imageEncoder) {
+        this.imageEncoder = imageEncoder;
+    }
+
+    public Integer getJpegQuality() {
+        return jpegQuality;
+    }
+
+    public void setJpegQuality(Integer jpegQuality) {
+        this.jpegQuality = jpegQuality;
+    }
+
+    public Double getNmsIouThreshold() {
+        return nmsIouThreshold;
+    }
+
+    public void setNmsIouThreshold(Double nmsIouThreshold) {
+        this.nmsIouThreshold = nmsIouThreshold;
+    }
+
+    public Integer getMaxFaces() {
+        return maxFaces;
+    }
+
+    public void setMaxFaces(Integer maxFaces) {
+        this.maxFaces = maxFaces;
+    }
+
+    public DetectionStrategy getDetectionStrategy() {
+        return detectionStrategy;
+    }
+
+    public void setDetectionStrategy(DetectionStrategy detectionStrategy) {
+        this.detectionStrategy = detectionStrategy;
+    }
+
+    public Boolean getFastMode() {
+        return fastMode;
+    }
+
+    public void setFastMode(Boolean fastMode) {
+        this.fastMode = fastMode;
+    }
+
+    public Integer getWorkingWidth() {
+        return workingWidth;
+    }
+
+    public void setWorkingWidth(Integer workingWidth) {
+        this.workingWidth = workingWidth;
+    }
+
     public String getDatasetRoot() {
         return datasetRoot;
     }
@@ -62,4 +259,36 @@ public class FaceDetectionProperties {
     public void setDatasetRoot(String datasetRoot) {
         this.datasetRoot = datasetRoot;
     }
+
+    public Integer getExecutorThreads() {
+        return executorThreads;
+    }
+
+    public void setExecutorThreads(Integer executorThreads) {
+        this.executorThreads = executorThreads;
+    }
+
+    public Integer getExecutorQueueCapacity() {
+        return executorQueueCapacity;
+    }
+
+    public void setExecutorQueueCapacity(Integer executorQueueCapacity) {
+        this.executorQueueCapacity = executorQueueCapacity;
+    }
+
+    public Integer getClassifierPoolSize() {
+        return classifierPoolSize;
+    }
+
+    public void setClassifierPoolSize(Integer classifierPoolSize) {
+        this.classifierPoolSize = classifierPoolSize;
+    }
+
+    public Long getClassifierBorrowTimeoutMs() {
+        return classifierBorrowTimeoutMs;
+    }
+
+    public void setClassifierBorrowTimeoutMs(Long classifierBorrowTimeoutMs) {
+        this.classifierBorrowTimeoutMs = classifierBorrowTimeoutMs;
+    }
 }
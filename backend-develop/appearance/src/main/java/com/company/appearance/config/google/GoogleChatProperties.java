@@ -26,6 +26,36 @@ public class GoogleChatProperties {
      */
     private boolean onlyOnFail = false;
 
+    /**
+     * If true, evaluations are posted as one digest per window instead of one message each.
+     */
+    private boolean digestEnabled = false;
+
+    /**
+     * Seconds a digest collects evaluations, counted from the oldest pending one.
+     */
+    private int digestWindowSeconds = 60;
+
+    /**
+     * Evaluations that close a digest early.
+     */
+    private int digestMaxSize = 200;
+
+    /**
+     * Threads sending Google Chat notifications.
+     */
+    private int executorThreads = 2;
+
+    /**
+     * Tasks that may wait for a thread; further tasks are dropped and counted.
+     */
+    private int executorQueueCapacity = 500;
+
+    /**
+     * Seconds to keep draining queued tasks on shutdown.
+     */
+    private int executorAwaitTerminationSeconds = 30;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -49,4 +79,52 @@ public class GoogleChatProperties {
     public void setOnlyOnFail(boolean onlyOnFail) {
         this.onlyOnFail = onlyOnFail;
     }
+
+    public int getExecutorThreads() {
+        return executorThreads;
+    }
+
+    public void setExecutorThreads(int executorThreads) {
+        this.executorThreads = executorThreads;
+    }
+
+    public int getExecutorQueueCapacity() {
+        return executorQueueCapacity;
+    }
+
+    public void setExecutorQueueCapacity(int executorQueueCapacity) {
+        this.executorQueueCapacity = executorQueueCapacity;
+    }
+
+    public int getExecutorAwaitTerminationSeconds() {
+        return executorAwaitTerminationSeconds;
+    }
+
+    public void setExecutorAwaitTerminationSeconds(int executorAwaitTerminationSeconds) {
+        this.executorAwaitTerminationSeconds = executorAwaitTerminationSeconds;
+    }
+
+    public boolean isDigestEnabled() {
+        return digestEnabled;
+    }
+
+    public void setDigestEnabled(boolean digestEnabled) {
+        this.digestEnabled = digestEnabled;
+    }
+
+    public int getDigestWindowSeconds() {
+        return digestWindowSeconds;
+    }
+
+    public void setDigestWindowSeconds(int digestWindowSeconds) {
+        this.digestWindowSeconds = digestWindowSeconds;
+    }
+
+    public int getDigestMaxSize() {
+        return digestMaxSize;
+    }
+
+    public void setDigestMaxSize(int digestMaxSize) {
+        this.digestMaxSize = digestMaxSize;
+    }
 }
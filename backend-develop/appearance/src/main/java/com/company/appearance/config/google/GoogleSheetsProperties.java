@@ -38,6 +38,21 @@ public class GoogleSheetsProperties {
      */
     private String credentialsJsonBase64;
 
+    /**
+     * Threads sending Google Sheets appends. One thread keeps rows in submission order.
+     */
+    private int executorThreads = 1;
+
+    /**
+     * Tasks that may wait for a thread; further tasks are dropped and counted.
+     */
+    private int executorQueueCapacity = 1000;
+
+    /**
+     * Seconds to keep draining queued tasks on shutdown.
+     */
+    private int executorAwaitTerminationSeconds = 30;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -77,4 +92,28 @@ public class GoogleSheetsProperties {
     public void setCredentialsJsonBase64(String credentialsJsonBase64) {
         this.credentialsJsonBase64 = credentialsJsonBase64;
     }
+
+    public int getExecutorThreads() {
+        return executorThreads;
+    }
+
+    public void setExecutorThreads(int executorThreads) {
+        this.executorThreads = executorThreads;
+    }
+
+    public int getExecutorQueueCapacity() {
+        return executorQueueCapacity;
+    }
+
+    public void setExecutorQueueCapacity(int executorQueueCapacity) {
+        this.executorQueueCapacity = executorQueueCapacity;
+    }
+
+    public int getExecutorAwaitTerminationSeconds() {
+        return executorAwaitTerminationSeconds;
+    }
+
+    public void setExecutorAwaitTerminationSeconds(int executorAwaitTerminationSeconds) {
+        this.executorAwaitTerminationSeconds = executorAwaitTerminationSeconds;
+    }
 }
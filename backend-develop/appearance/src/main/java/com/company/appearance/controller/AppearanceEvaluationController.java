@@ -1,17 +1,30 @@
 package com.company.appearance.controller;
 
+import com.company.appearance.dto.AppearanceEvaluationBatchResponse;
+import com.company.appearance.dto.AppearanceEvaluationPage;
 import com.company.appearance.dto.AppearanceEvaluationRequest;
 import com.company.appearance.dto.AppearanceEvaluationResponse;
+import com.company.appearance.dto.DailyEvaluationStats;
 import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.ExportFormat;
 import com.company.appearance.service.AppearanceEvaluationService;
+import com.company.appearance.service.EvaluationExportService;
+import com.company.appearance.service.EvaluationStatsService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for appearance evaluation APIs.
@@ -25,14 +38,21 @@ import org.springframework.web.bind.annotation.*;
 public class AppearanceEvaluationController {
 
     private final AppearanceEvaluationService service;
+    private final EvaluationStatsService statsService;
+    private final EvaluationExportService exportService;
 
     /**
      * Constructor for injecting AppearanceEvaluationService.
      *
-     * @param service the AppearanceEvaluationService instance
+     * @param service       the AppearanceEvaluationService instance
+     * @param statsService  the EvaluationStatsService instance
+     * @param exportService the EvaluationExportService instance
      */
-    public AppearanceEvaluationController(AppearanceEvaluationService service) {
+    public AppearanceEvaluationController(AppearanceEvaluationService service, EvaluationStatsService statsService,
+            EvaluationExportService exportService) {
         this.service = service;
+        this.statsService = statsService;
+        this.exportService = exportService;
     }
 
     /**
@@ -53,6 +73,22 @@ public class AppearanceEvaluationController {
         return service.evaluate(request);
     }
 
+    /**
+     * Evaluates a list of employees in one request, e.g. a morning line-up.
+     *
+     * @param requests evaluation requests
+     * @return per-item results in input order
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="Create appearance evaluations in bulk",
+        description="Evaluates many employees at once. Employees are looked up in one query and evaluations are saved with batched inserts. Results are returned in input order; an unknown employee or invalid item is reported on its own item."
+    )
+    public AppearanceEvaluationBatchResponse evaluateBatch(
+            @RequestBody List<AppearanceEvaluationRequest> requests) {
+        return service.evaluateBatch(requests);
+    }
+
     @GetMapping()
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
     @Operation(summary="Get all appearance evaluations",
@@ -63,6 +99,106 @@ public class AppearanceEvaluationController {
 
     }
 
+    /**
+     * Lists evaluations newest first, one page at a time.
+     *
+     * @param cursor       nextCursor from the previous page, omitted for the first page
+     * @param size         page size (bounded by app.evaluations.max-page-size)
+     * @param includeTotal whether to count all evaluations
+     * @return page of evaluation summaries
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="List appearance evaluations page by page",
+        description="Returns evaluation summaries newest first using a keyset cursor. Pass nextCursor as cursor to get the next page. The total count is only computed when includeTotal=true."
+    )
+    public AppearanceEvaluationPage getPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return service.listPage(null, cursor, size, includeTotal);
+    }
+
+    @GetMapping("/employee/by-id/{employeeId}/page")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="List evaluations of an employee page by page",
+        description="Returns evaluation summaries of one employee newest first using a keyset cursor."
+    )
+    public AppearanceEvaluationPage getPageByEmployeeId(
+            @PathVariable String employeeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return service.listPage(employeeId, cursor, size, includeTotal);
+    }
+
+    /**
+     * Streams evaluations of a date range as CSV or NDJSON.
+     *
+     * @param from   first day (inclusive)
+     * @param to     last day (inclusive)
+     * @param format CSV or NDJSON
+     * @return streamed file
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="Export appearance evaluations",
+        description="Streams all evaluations between from and to (inclusive ISO dates) as CSV or NDJSON, oldest first. Rows are written while they are read, so memory use does not depend on the range."
+    )
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        StreamingResponseBody body = out -> exportService.export(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(), format, out);
+        String filename = "evaluations_" + from + "_" + to + "." + format.getExtension();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @GetMapping("/passrate")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="Get the evaluation pass rate",
+        description="Returns the percentage (0-100) of passed evaluations between from and to (inclusive ISO dates), or over all time when both are omitted."
+    )
+    public double getPassRate(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return statsService.getPassRate(from, to);
+    }
+
+    @GetMapping("/countPerDay")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="Get the number of evaluations on a day",
+        description="Returns the number of saved evaluations on the given ISO date, today by default."
+    )
+    public long getCountPerDay(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return statsService.getCountForDay(date != null ? date : LocalDate.now());
+    }
+
+    @GetMapping("/stats/daily")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
+    @Operation(summary="Get daily evaluation statistics",
+        description="Returns evaluations, passes, pass rate and average score per day between from and to (inclusive, default the last 30 days), optionally for one department."
+    )
+    public List<DailyEvaluationStats> getDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String department) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return statsService.getDailyStats(start, end, department);
+    }
+
     @GetMapping("/employee/by-id/{employeeId}")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN','ROLE_EVALUATOR')")
     @Operation(summary="Get evaluations by employee ID",
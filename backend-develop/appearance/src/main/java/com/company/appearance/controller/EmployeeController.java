@@ -8,6 +8,7 @@ import com.company.appearance.dto.EmployeeResponse;
 import com.company.appearance.dto.face.FaceRegisterResponse;
 import com.company.appearance.dto.face.FaceDatabaseDeleteResponse;
 import com.company.appearance.model.Employee;
+import com.company.appearance.model.face.FaceImageContext;
 import com.company.appearance.service.EmployeeService;
 import com.company.appearance.service.face.FaceAngleService;
 import com.company.appearance.service.face.FacePipelineService;
@@ -213,7 +214,8 @@ public class EmployeeController {
 
         // CRITICAL: Validate that ALL 5 images contain detectable faces BEFORE creating employee
         // This prevents creating orphaned employee records if face registration fails
-        facePipelineService.validateAllFacesDetectable(front, left, right, up, down);
+        // The detected and cropped faces are kept for registration so each image is decoded only once
+        FaceImageContext faces = facePipelineService.validateAllFacesDetectable(front, left, right, up, down);
 
         // Only create employee AFTER confirming all faces are detectable
         Employee employee = new Employee(
@@ -227,7 +229,7 @@ public class EmployeeController {
         // Register face with the generated employee ID
         // At this point we know all faces are detectable, so registration should succeed
         FaceRegisterResponse faceResponse = facePipelineService.registerPerson(
-            saved.getId(), front, left, right, up, down, model, minQuality);
+            saved.getId(), faces, model, minQuality);
 
         // Build response
         CreateEmployeeWithFaceRequest response = new CreateEmployeeWithFaceRequest(
@@ -1,5 +1,7 @@
 package com.company.appearance.controller.face;
 
+import com.company.appearance.config.face.FaceApiProperties;
+import com.company.appearance.dto.face.FaceBatchRecognizeResponse;
 import com.company.appearance.dto.face.FaceDetectResponse;
 import com.company.appearance.dto.face.FaceRecognizeResponse;
 import com.company.appearance.dto.face.FaceRegisterResponse;
@@ -9,6 +11,7 @@ import com.company.appearance.util.face.FileValidationUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +22,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 /**
  * REST controller for face pipeline operations (user-facing endpoints).
  * Handles face registration and recognition with 5-angle support.
@@ -31,13 +36,16 @@ public class FacePipelineController {
     private final FacePipelineService pipelineService;
     private final FaceAngleService angleService;
     private final FileValidationUtil fileValidationUtil;
+    private final FaceApiProperties faceApiProperties;
 
     public FacePipelineController(FacePipelineService pipelineService, 
                                    FaceAngleService angleService,
-                                   FileValidationUtil fileValidationUtil) {
+                                   FileValidationUtil fileValidationUtil,
+                                   FaceApiProperties faceApiProperties) {
         this.pipelineService = pipelineService;
         this.angleService = angleService;
         this.fileValidationUtil = fileValidationUtil;
+        this.faceApiProperties = faceApiProperties;
     }
 
     /**
@@ -146,6 +154,90 @@ public class FacePipelineController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Recognizes persons in several images with one request.
+     *
+     * @param files Full-body image files
+     * @param model Recognition model (optional)
+     * @param threshold Recognition threshold (optional)
+     * @return Per-image recognition results in input order
+     */
+    @PostMapping(value = "/recognize/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_EVALUATOR')")
+    @Operation(
+        summary = "Recognize persons in multiple images",
+        description = "Detects faces in all images in parallel and recognizes them with the Face API in micro-batches. Results are returned in input order; an image without a face or a failed API call is reported on its own item."
+    )
+    public ResponseEntity<FaceBatchRecognizeResponse> recognizeBatch(
+            @RequestPart @Parameter(description = "Full-body image files", required = true,
+                content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                array = @ArraySchema(schema = @Schema(type = "string", format = "binary")))) List<MultipartFile> files,
+            @RequestParam(required = false) 
+            @Parameter(
+                description = "Face recognition model",
+                schema = @Schema(
+                    allowableValues = {"magface", "qmagface"},
+                    defaultValue = "magface",
+                    type = "string"
+                )
+            ) String model,
+            @RequestParam(required = false) @Parameter(description = "Recognition threshold") Double threshold) {
+
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("files is required and cannot be empty");
+        }
+        if (files.size() > faceApiProperties.getBatchMaxImages()) {
+            throw new IllegalArgumentException(
+                "At most " + faceApiProperties.getBatchMaxImages() + " images are allowed per batch, received " + files.size());
+        }
+
+        // Validate file uploads
+        for (int i = 0; i < files.size(); i++) {
+            fileValidationUtil.validateImageFile(files.get(i), "files[" + i + "]");
+        }
+
+        FaceBatchRecognizeResponse response = pipelineService.recognizeBatch(files, model, threshold);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recognizes every person whose face is visible in one image.
+     *
+     * @param file Image that may contain several faces
+     * @param model Recognition model (optional)
+     * @param threshold Recognition threshold (optional)
+     * @return One recognition result per detected face, largest face first
+     */
+    @PostMapping(value = "/recognize/multi", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_EVALUATOR')")
+    @Operation(
+        summary = "Recognize all faces in an image",
+        description = "Detects every face in the image (overlapping frontal/profile boxes are merged), then recognizes each face separately. Each result carries the bounding box it belongs to."
+    )
+    public ResponseEntity<FaceBatchRecognizeResponse> recognizeAllFaces(
+            @RequestPart @Parameter(description = "Image file", required = true,
+                content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                schema = @Schema(type = "string", format = "binary"))) MultipartFile file,
+            @RequestParam(required = false) 
+            @Parameter(
+                description = "Face recognition model",
+                schema = @Schema(
+                    allowableValues = {"magface", "qmagface"},
+                    defaultValue = "magface",
+                    type = "string"
+                )
+            ) String model,
+            @RequestParam(required = false) @Parameter(description = "Recognition threshold") Double threshold) {
+
+        // Validate file upload
+        fileValidationUtil.validateImageFile(file, "file");
+
+        FaceBatchRecognizeResponse response = pipelineService.recognizeAllFaces(file, model, threshold);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Debug endpoint: detects face and returns bounding box (optionally with cropped image).
      *
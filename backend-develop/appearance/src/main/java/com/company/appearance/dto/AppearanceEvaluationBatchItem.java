@@ -0,0 +1,81 @@
+package com.company.appearance.dto;
+
+import com.company.appearance.exception.BatchItemError;
+
+/**
+ * Result of one evaluation in a batch request.
+ * Exactly one of result and error is set; errorCode is a stable code from
+ * {@link BatchItemError} and error a client-safe message.
+ */
+public class AppearanceEvaluationBatchItem {
+    private int index;
+    private String employeeId;
+    private AppearanceEvaluationResponse result;
+    private String error;
+    private String errorCode;
+
+    public AppearanceEvaluationBatchItem() {
+    }
+
+    public static AppearanceEvaluationBatchItem success(int index, String employeeId, AppearanceEvaluationResponse result) {
+        AppearanceEvaluationBatchItem item = new AppearanceEvaluationBatchItem();
+        item.index = index;
+        item.employeeId = employeeId;
+        item.result = result;
+        return item;
+    }
+
+    public static AppearanceEvaluationBatchItem failure(int index, String employeeId, Throwable error) {
+        AppearanceEvaluationBatchItem item = new AppearanceEvaluationBatchItem();
+        item.index = index;
+        item.employeeId = employeeId;
+        BatchItemError mapped = BatchItemError.of(index, error);
+        item.error = mapped.message();
+        item.errorCode = mapped.code();
+        return item;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public AppearanceEvaluationResponse getResult() {
+        return result;
+    }
+
+    public void setResult(AppearanceEvaluationResponse result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+}
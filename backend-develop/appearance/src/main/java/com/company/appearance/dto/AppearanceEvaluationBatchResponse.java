@@ -0,0 +1,56 @@
+package com.company.appearance.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for the batch evaluation endpoint.
+ * Items are in input order; an invalid item does not fail the batch.
+ */
+public class AppearanceEvaluationBatchResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<AppearanceEvaluationBatchItem> results;
+
+    public AppearanceEvaluationBatchResponse() {
+    }
+
+    public AppearanceEvaluationBatchResponse(List<AppearanceEvaluationBatchItem> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(AppearanceEvaluationBatchItem::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<AppearanceEvaluationBatchItem> getResults() {
+        return results;
+    }
+
+    public void setResults(List<AppearanceEvaluationBatchItem> results) {
+        this.results = results;
+    }
+}
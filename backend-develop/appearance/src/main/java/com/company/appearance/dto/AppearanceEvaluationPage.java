@@ -0,0 +1,57 @@
+package com.company.appearance.dto;
+
+import java.util.List;
+
+/**
+ * One page of evaluations, newest first.
+ * Pass nextCursor back as the cursor parameter to fetch the following page;
+ * it is null on the last page. total is only set when requested.
+ */
+public class AppearanceEvaluationPage {
+    private List<AppearanceEvaluationSummary> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private Long total;
+
+    public AppearanceEvaluationPage() {
+    }
+
+    public AppearanceEvaluationPage(List<AppearanceEvaluationSummary> items, String nextCursor, Long total) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.total = total;
+    }
+
+    public List<AppearanceEvaluationSummary> getItems() {
+        return items;
+    }
+
+    public void setItems(List<AppearanceEvaluationSummary> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+}
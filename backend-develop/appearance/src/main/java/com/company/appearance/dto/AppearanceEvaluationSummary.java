@@ -0,0 +1,145 @@
+package com.company.appearance.dto;
+
+import com.company.appearance.model.AppearanceRule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only projection of an evaluation for listing endpoints.
+ * Built directly by a JPQL constructor expression, so no entity graph is loaded;
+ * violations are decoded from the row's violation mask.
+ */
+public class AppearanceEvaluationSummary {
+    private Long id;
+    private EmployeeSummary employee;
+    private boolean passed;
+    private int score;
+    private List<String> violations = new ArrayList<>();
+    private LocalDateTime evaluatedAt;
+    private String ruleVersion;
+
+    public AppearanceEvaluationSummary() {
+    }
+
+    public AppearanceEvaluationSummary(Long id, boolean passed, int score, int violationMask,
+            LocalDateTime evaluatedAt, String ruleVersion, String employeeId, String employeeName,
+            String employeePosition, String employeeDepartment) {
+        this.id = id;
+        this.passed = passed;
+        this.score = score;
+        this.violations = AppearanceRule.messagesOf(violationMask);
+        this.evaluatedAt = evaluatedAt;
+        this.ruleVersion = ruleVersion;
+        this.employee = new EmployeeSummary(employeeId, employeeName, employeePosition, employeeDepartment);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public EmployeeSummary getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeSummary employee) {
+        this.employee = employee;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public void setPassed(boolean passed) {
+        this.passed = passed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public void setViolations(List<String> violations) {
+        this.violations = violations;
+    }
+
+    public LocalDateTime getEvaluatedAt() {
+        return evaluatedAt;
+    }
+
+    public void setEvaluatedAt(LocalDateTime evaluatedAt) {
+        this.evaluatedAt = evaluatedAt;
+    }
+
+    public String getRuleVersion() {
+        return ruleVersion;
+    }
+
+    public void setRuleVersion(String ruleVersion) {
+        this.ruleVersion = ruleVersion;
+    }
+
+    /**
+     * Employee fields shown next to an evaluation.
+     */
+    public static class EmployeeSummary {
+        private String id;
+        private String name;
+        private String position;
+        private String department;
+
+        public EmployeeSummary() {
+        }
+
+        public EmployeeSummary(String id, String name, String position, String department) {
+            this.id = id;
+            this.name = name;
+            this.position = position;
+            this.department = department;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getPosition() {
+            return position;
+        }
+
+        public void setPosition(String position) {
+            this.position = position;
+        }
+
+        public String getDepartment() {
+            return department;
+        }
+
+        public void setDepartment(String department) {
+            this.department = department;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.company.appearance.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Evaluation statistics of one day, summed from the daily rollup.
+ */
+public class DailyEvaluationStats {
+    private LocalDate day;
+    private long evaluations;
+    private long passes;
+    private double passRate;
+    private double averageScore;
+
+    public DailyEvaluationStats() {
+    }
+
+    public DailyEvaluationStats(LocalDate day, Long evaluations, Long passes, Long scoreSum) {
+        this.day = day;
+        this.evaluations = evaluations;
+        this.passes = passes;
+        this.passRate = evaluations == 0 ? 0 : passes * 100.0 / evaluations;
+        this.averageScore = evaluations == 0 ? 0 : (double) scoreSum / evaluations;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public void setEvaluations(long evaluations) {
+        this.evaluations = evaluations;
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+
+    public void setPasses(long passes) {
+        this.passes = passes;
+    }
+
+    /**
+     * Gets the pass rate.
+     * @return percentage of passed evaluations (0-100)
+     */
+    public double getPassRate() {
+        return passRate;
+    }
+
+    public void setPassRate(double passRate) {
+        this.passRate = passRate;
+    }
+
+    public double getAverageScore() {
+        return averageScore;
+    }
+
+    public void setAverageScore(double averageScore) {
+        this.averageScore = averageScore;
+    }
+}
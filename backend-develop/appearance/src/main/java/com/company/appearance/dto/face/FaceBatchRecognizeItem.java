@@ -0,0 +1,81 @@
+package com.company.appearance.dto.face;
+
+import com.company.appearance.exception.BatchItemError;
+
+/**
+ * Result of one image in a batch recognition request.
+ * Exactly one of result and error is set; errorCode is a stable code from
+ * {@link BatchItemError} and error a client-safe message.
+ */
+public class FaceBatchRecognizeItem {
+    private int index;
+    private String filename;
+    private FaceRecognizeResponse result;
+    private String error;
+    private String errorCode;
+
+    public FaceBatchRecognizeItem() {
+    }
+
+    public static FaceBatchRecognizeItem success(int index, String filename, FaceRecognizeResponse result) {
+        FaceBatchRecognizeItem item = new FaceBatchRecognizeItem();
+        item.index = index;
+        item.filename = filename;
+        item.result = result;
+        return item;
+    }
+
+    public static FaceBatchRecognizeItem failure(int index, String filename, Throwable error) {
+        FaceBatchRecognizeItem item = new FaceBatchRecognizeItem();
+        item.index = index;
+        item.filename = filename;
+        BatchItemError mapped = BatchItemError.of(index, error);
+        item.error = mapped.message();
+        item.errorCode = mapped.code();
+        return item;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+
+    public FaceRecognizeResponse getResult() {
+        return result;
+    }
+
+    public void setResult(FaceRecognizeResponse result) {
+        this.result = result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+}
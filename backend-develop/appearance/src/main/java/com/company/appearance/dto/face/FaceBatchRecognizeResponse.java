@@ -0,0 +1,56 @@
+package com.company.appearance.dto.face;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch face recognition endpoint.
+ * Items are in input order; a failed image does not fail the batch.
+ */
+public class FaceBatchRecognizeResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<FaceBatchRecognizeItem> results;
+
+    public FaceBatchRecognizeResponse() {
+    }
+
+    public FaceBatchRecognizeResponse(List<FaceBatchRecognizeItem> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(FaceBatchRecognizeItem::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<FaceBatchRecognizeItem> getResults() {
+        return results;
+    }
+
+    public void setResults(List<FaceBatchRecognizeItem> results) {
+        this.results = results;
+    }
+}
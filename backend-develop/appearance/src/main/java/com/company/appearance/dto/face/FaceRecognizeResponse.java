@@ -11,6 +11,7 @@ public class FaceRecognizeResponse {
     private Double confidence;
     private List<Map<String, Object>> matches;
     private Map<String, Object> details;
+    private FaceBoxDto boundingBox;
 
     public FaceRecognizeResponse() {
     }
@@ -55,4 +56,12 @@ public class FaceRecognizeResponse {
     public void setDetails(Map<String, Object> details) {
         this.details = details;
     }
+
+    public FaceBoxDto getBoundingBox() {
+        return boundingBox;
+    }
+
+    public void setBoundingBox(FaceBoxDto boundingBox) {
+        this.boundingBox = boundingBox;
+    }
 }
@@ -1,12 +1,17 @@
 package com.company.appearance.dto.integration;
 
+import com.company.appearance.model.AppearanceCriteria;
+import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.Employee;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Immutable snapshot DTO for appearance evaluation data.
  * Contains all fields needed for Google Chat and Google Sheets integration.
- * Built immediately after saving evaluation to avoid LAZY loading issues.
+ * Built by the outbox dispatcher from the stored evaluation, with its employee
+ * fetched in the same query, so no LAZY loading happens while sending.
  */
 public class AppearanceEvaluationSnapshot {
 
@@ -69,6 +74,37 @@ public class AppearanceEvaluationSnapshot {
         this.evaluatorUsername = evaluatorUsername;
     }
 
+    /**
+     * Builds a snapshot from a stored evaluation whose employee is loaded.
+     *
+     * @param evaluation        evaluation with its employee
+     * @param evaluatorUsername username recorded when the evaluation was saved (nullable)
+     * @return the snapshot
+     */
+    public static AppearanceEvaluationSnapshot of(AppearanceEvaluation evaluation, String evaluatorUsername) {
+        Employee employee = evaluation.getEmployee();
+        AppearanceCriteria criteria = evaluation.getCriteria() != null
+                ? evaluation.getCriteria() : new AppearanceCriteria();
+        return new AppearanceEvaluationSnapshot(
+                evaluation.getId(),
+                employee.getId(),
+                employee.getName(),
+                employee.getDepartment(),
+                employee.getPosition(),
+                evaluation.isPassed(),
+                evaluation.getScore(),
+                evaluation.getViolations(), // Decoded from the mask, no lazy loading
+                evaluation.getEvaluatedAt(),
+                evaluation.getNote(),
+                criteria.isHat(),
+                criteria.isHair(),
+                criteria.isTie(),
+                criteria.isShirt(),
+                criteria.isPants(),
+                criteria.isShoes(),
+                evaluatorUsername);
+    }
+
     public Long getEvaluationId() {
         return evaluationId;
     }
@@ -0,0 +1,61 @@
+package com.company.appearance.exception;
+
+import com.company.appearance.exception.face.FaceApiException;
+import com.company.appearance.exception.face.FaceDetectionException;
+import com.company.appearance.exception.face.FaceDetectorBusyException;
+import com.company.appearance.exception.face.InvalidFaceModelException;
+import com.company.appearance.exception.face.PersonNotFoundException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client-facing error of one item in a batch request.
+ *
+ * Mirrors GlobalExceptionHandler: client errors keep their message, server and
+ * upstream errors get a fixed message, and the cause is only logged.
+ */
+public record BatchItemError(String code, String message) {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchItemError.class);
+
+    /**
+     * Maps an item failure to a stable code and message and logs the cause.
+     *
+     * @param index index of the failed item in the batch
+     * @param error failure of the item
+     * @return code and message safe to return to the client
+     */
+    public static BatchItemError of(int index, Throwable error) {
+        if (error instanceof IllegalArgumentException) {
+            logger.warn("Batch item {} rejected: {}", index, error.getMessage());
+            return new BatchItemError("INVALID_ARGUMENT", messageOr(error, "Invalid argument"));
+        }
+        if (error instanceof PersonNotFoundException) {
+            logger.warn("Batch item {} rejected: {}", index, error.getMessage());
+            return new BatchItemError("PERSON_NOT_FOUND", messageOr(error, "Person not found"));
+        }
+        if (error instanceof InvalidFaceModelException) {
+            logger.warn("Batch item {} rejected: {}", index, error.getMessage());
+            return new BatchItemError("INVALID_FACE_MODEL", messageOr(error, "Invalid face model"));
+        }
+        if (error instanceof FaceDetectorBusyException) {
+            logger.warn("Batch item {} rejected: {}", index, error.getMessage());
+            return new BatchItemError("FACE_DETECTOR_BUSY", "Face detector is busy, please retry later");
+        }
+        if (error instanceof FaceDetectionException) {
+            logger.error("Batch item {} failed: {}", index, error.getMessage(), error);
+            return new BatchItemError("FACE_DETECTION_FAILED", "Face detection failed");
+        }
+        if (error instanceof FaceApiException) {
+            logger.error("Batch item {} failed: {}", index, error.getMessage(), error);
+            return new BatchItemError("FACE_API_ERROR", "Face API request failed");
+        }
+        logger.error("Batch item {} failed: {}", index, error.getMessage(), error);
+        return new BatchItemError("INTERNAL_ERROR", "Internal server error");
+    }
+
+    private static String messageOr(Throwable error, String fallback) {
+        return error.getMessage() != null && !error.getMessage().isBlank() ? error.getMessage() : fallback;
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 import com.company.appearance.exception.face.FaceApiException;
 import com.company.appearance.exception.face.FaceDetectionException;
+import com.company.appearance.exception.face.FaceDetectorBusyException;
 import com.company.appearance.exception.face.InvalidFaceModelException;
 import com.company.appearance.exception.face.PersonNotFoundException;
 
@@ -350,6 +351,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(error);
     }
 
+    @ExceptionHandler(FaceDetectorBusyException.class)
+    public ResponseEntity<ApiError> handleFaceDetectorBusyException(
+            FaceDetectorBusyException ex,
+            HttpServletRequest request) {
+        logger.warn("Face detector busy: {}", ex.getMessage());
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        Map<String, Object> details = new HashMap<>();
+        details.put("error_type", "FaceDetectorBusyException");
+        
+        ApiError error = new ApiError(
+                OffsetDateTime.now(TIMEZONE),
+                status.value(),
+                status.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                details
+        );
+
+        return ResponseEntity.status(status).body(error);
+    }
+
     @ExceptionHandler(FaceApiException.class)
     public ResponseEntity<ApiError> handleFaceApiException(
             FaceApiException ex,
@@ -0,0 +1,12 @@
+package com.company.appearance.exception.face;
+
+/**
+ * Exception thrown when no face detector becomes available in time.
+ * Should result in HTTP 503 Service Unavailable.
+ */
+public class FaceDetectorBusyException extends RuntimeException {
+
+    public FaceDetectorBusyException(String message) {
+        super(message);
+    }
+}
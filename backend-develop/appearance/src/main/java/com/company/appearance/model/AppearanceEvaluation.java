@@ -3,31 +3,48 @@ package com.company.appearance.model;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
  * AppearanceEvaluation represents a persistent entity in the application domain.
  */
 @Entity
-@Table(name = "appearance_evaluations")
+@Table(name = "appearance_evaluations", indexes = {
+        // Keyset pagination: newest first, id as tie-breaker
+        @Index(name = "idx_evaluations_evaluated_at_id", columnList = "evaluated_at, id"),
+        @Index(name = "idx_evaluations_employee_evaluated_at_id", columnList = "employee_id, evaluated_at, id"),
+        // "Violated rule X" filters become IN lookups over the masks containing X
+        @Index(name = "idx_evaluations_violation_mask", columnList = "violation_mask")
+})
 public class AppearanceEvaluation {
 
     /**
-     * Id field.
+     * Name of the id sequence (a one-row table on MySQL).
+     */
+    public static final String ID_SEQUENCE = "appearance_evaluations_seq";
+
+    /**
+     * Ids reserved per sequence round trip.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Id field. Pooled sequence ids are assigned before insert, so inserts can be JDBC-batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appearance_evaluation_id")
+    @SequenceGenerator(name = "appearance_evaluation_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -53,12 +70,10 @@ public class AppearanceEvaluation {
     private int score;
     
     /**
-     * Violations field - list of violated appearance rules.
+     * Violated appearance rules as an OR of {@link AppearanceRule#getMask()} values.
      */
-    @ElementCollection
-    @CollectionTable(name = "appearance_evaluation_violations", joinColumns = @JoinColumn(name = "evaluation_id"))
-    @Column(name = "violation")
-    private List<String> violations;
+    @Column(name = "violation_mask", nullable = false)
+    private int violationMask;
     
     /**
      * Note field.
@@ -69,6 +84,12 @@ public class AppearanceEvaluation {
      */
     private LocalDateTime evaluatedAt;
 
+    /**
+     * Version of rule-config.json the evaluation was scored with.
+     */
+    @Column(name = "rule_version", length = 32)
+    private String ruleVersion;
+
     /**
      * Constructor for injecting AppearanceEvaluation dependencies.
      */
@@ -79,14 +100,14 @@ public class AppearanceEvaluation {
             AppearanceCriteria criteria,
             boolean passed,
             int score,
-            List<String> violations,
+            int violationMask,
             String note,
             LocalDateTime evaluatedAt) {
         this.employee = employee;
         this.criteria = criteria;
         this.passed = passed;
         this.score = score;
-        this.violations = violations;
+        this.violationMask = violationMask;
         this.note = note;
         this.evaluatedAt = evaluatedAt;
     }
@@ -140,11 +161,19 @@ public class AppearanceEvaluation {
     }
 
     /**
-     * Gets the violations.
-     * @return the violations list
+     * Gets the violations, decoded from the violation mask.
+     * @return the violation messages
      */
     public List<String> getViolations() {
-        return violations;
+        return AppearanceRule.messagesOf(violationMask);
+    }
+
+    /**
+     * Gets the violationMask.
+     * @return the violated rules as a bitmask
+     */
+    public int getViolationMask() {
+        return violationMask;
     }
 
     /**
@@ -196,11 +225,11 @@ public class AppearanceEvaluation {
     }
 
     /**
-     * Sets the violations.
-     * @param violations the violations list
+     * Sets the violationMask.
+     * @param violationMask the violated rules as a bitmask
      */
-    public void setViolations(List<String> violations) {
-        this.violations = violations;
+    public void setViolationMask(int violationMask) {
+        this.violationMask = violationMask;
     }
 
     /**
@@ -219,14 +248,30 @@ public class AppearanceEvaluation {
         this.evaluatedAt = evaluatedAt;
     }
 
+    /**
+     * Gets the ruleVersion.
+     * @return the rule-config.json version
+     */
+    public String getRuleVersion() {
+        return ruleVersion;
+    }
+
+    /**
+     * Sets the ruleVersion.
+     * @param ruleVersion the rule-config.json version
+     */
+    public void setRuleVersion(String ruleVersion) {
+        this.ruleVersion = ruleVersion;
+    }
+
     public AppearanceEvaluation(Long id, Employee employee, AppearanceCriteria criteria, boolean passed, int score,
-            List<String> violations, String note, LocalDateTime evaluatedAt) {
+            int violationMask, String note, LocalDateTime evaluatedAt) {
         this.id = id;
         this.employee = employee;
         this.criteria = criteria;
         this.passed = passed;
         this.score = score;
-        this.violations = violations;
+        this.violationMask = violationMask;
         this.note = note;
         this.evaluatedAt = evaluatedAt;
     }
@@ -234,7 +279,8 @@ public class AppearanceEvaluation {
     @Override
     public String toString() {
         return "AppearanceEvaluation [id=" + id + ", employee=" + employee + ", criteria=" + criteria + ", passed="
-                + passed + ", score=" + score + ", violations=" + violations + ", note=" + note + ", evaluatedAt=" + evaluatedAt + "]";
+                + passed + ", score=" + score + ", violations=" + getViolations() + ", note=" + note + ", evaluatedAt=" + evaluatedAt
+                + ", ruleVersion=" + ruleVersion + "]";
     }
 
 }
@@ -0,0 +1,128 @@
+// Model representing a dress-code rule
+package com.company.appearance.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Enumeration of the dress-code rules that rule-config.json can require.
+ * Each rule is bound at compile time to the AppearanceCriteria accessor it checks.
+ *
+ * This is also the dictionary for stored violations: an evaluation keeps a
+ * bitmask of violated rules and the messages are decoded from here. Bits are
+ * persisted, so never renumber them; give a new rule the next free bit.
+ */
+public enum AppearanceRule {
+    SHIRT("shirt", 0, AppearanceCriteria::isShirt, "Shirt does not meet the dress code"),
+    PANTS("pants", 1, AppearanceCriteria::isPants, "Pants do not meet the dress code"),
+    SHOES("shoes", 2, AppearanceCriteria::isShoes, "Shoes do not meet the dress code"),
+    TIE("tie", 3, AppearanceCriteria::isTie, "Tie does not meet the dress code"),
+    HAT("hat", 4, AppearanceCriteria::isHat, "Hat does not meet the dress code"),
+    HAIR("hair", 5, AppearanceCriteria::isHair, "Hair style does not meet the dress code");
+
+    private static final AppearanceRule[] RULES = values();
+
+    private final String key;
+    private final int mask;
+    private final Predicate<AppearanceCriteria> check;
+    private final String violationMessage;
+
+    AppearanceRule(String key, int bit, Predicate<AppearanceCriteria> check, String violationMessage) {
+        this.key = key;
+        this.mask = 1 << bit;
+        this.check = check;
+        this.violationMessage = violationMessage;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the bit of this rule in a violation mask.
+     * @return single-bit mask
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    public String getViolationMessage() {
+        return violationMessage;
+    }
+
+    /**
+     * Checks whether the criteria satisfy this rule.
+     * @param criteria appearance criteria
+     * @return true if satisfied
+     */
+    public boolean isSatisfiedBy(AppearanceCriteria criteria) {
+        return check.test(criteria);
+    }
+
+    /**
+     * Decodes a violation mask into messages.
+     * @param violationMask OR of violated rule masks
+     * @return violation messages in rule order
+     */
+    public static List<String> messagesOf(int violationMask) {
+        if (violationMask == 0) {
+            return List.of();
+        }
+        List<String> messages = new ArrayList<>(Integer.bitCount(violationMask));
+        for (AppearanceRule rule : RULES) {
+            if ((violationMask & rule.mask) != 0) {
+                messages.add(rule.violationMessage);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Lists every mask value that contains this rule.
+     * Lets a "violated rule X" filter run as an indexed IN lookup instead of a bitwise scan.
+     * @return masks with this rule's bit set
+     */
+    public List<Integer> masksContaining() {
+        int allRules = 0;
+        for (AppearanceRule rule : RULES) {
+            allRules |= rule.mask;
+        }
+        List<Integer> masks = new ArrayList<>(1 << (RULES.length - 1));
+        for (int candidate = 0; candidate <= allRules; candidate++) {
+            if ((candidate & mask) != 0 && (candidate & ~allRules) == 0) {
+                masks.add(candidate);
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Resolves a rule from a stored violation text (its message or its key).
+     * @param violation violation text
+     * @return matching rule, or null if the text is not a known violation
+     */
+    public static AppearanceRule fromViolation(String violation) {
+        for (AppearanceRule rule : RULES) {
+            if (rule.violationMessage.equals(violation) || rule.key.equalsIgnoreCase(violation)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves a rule by its rule-config.json key.
+     * @param key rule key (case-insensitive)
+     * @return matching rule
+     * @throws IllegalArgumentException if no rule has this key
+     */
+    public static AppearanceRule fromKey(String key) {
+        for (AppearanceRule rule : RULES) {
+            if (rule.key.equalsIgnoreCase(key)) {
+                return rule;
+            }
+        }
+        throw new IllegalArgumentException("Unknown appearance rule: " + key);
+    }
+}
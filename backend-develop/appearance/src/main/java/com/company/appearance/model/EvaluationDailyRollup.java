@@ -0,0 +1,60 @@
+package com.company.appearance.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Daily totals of saved evaluations per department and employee.
+ *
+ * Rows are incremented with an upsert whenever evaluations are saved, so
+ * dashboard statistics read one row per day and employee instead of scanning
+ * every evaluation. The average score is scoreSum / evaluations.
+ */
+@Entity
+@Table(name = "evaluation_daily_rollups", indexes = {
+        @Index(name = "idx_rollups_department_day", columnList = "department, day")
+})
+public class EvaluationDailyRollup {
+
+    /**
+     * Day, department and employee.
+     */
+    @EmbeddedId
+    private EvaluationDailyRollupId id;
+
+    /**
+     * Number of saved evaluations.
+     */
+    private long evaluations;
+
+    /**
+     * Number of passed evaluations.
+     */
+    private long passes;
+
+    /**
+     * Sum of scores, for the average score.
+     */
+    private long scoreSum;
+
+    public EvaluationDailyRollup() {
+    }
+
+    public EvaluationDailyRollupId getId() {
+        return id;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+}
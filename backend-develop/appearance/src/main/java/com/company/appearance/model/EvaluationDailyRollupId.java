@@ -0,0 +1,72 @@
+package com.company.appearance.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Key of a daily rollup row: one row per day, department and employee.
+ */
+@Embeddable
+public class EvaluationDailyRollupId implements Serializable {
+
+    /**
+     * Day of the evaluations (server local date).
+     */
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    /**
+     * Department of the employee at evaluation time; empty when unknown.
+     */
+    @Column(name = "department", nullable = false)
+    private String department;
+
+    /**
+     * Employee ID.
+     */
+    @Column(name = "employee_id", nullable = false)
+    private String employeeId;
+
+    public EvaluationDailyRollupId() {
+    }
+
+    public EvaluationDailyRollupId(LocalDate day, String department, String employeeId) {
+        this.day = day;
+        this.department = department;
+        this.employeeId = employeeId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EvaluationDailyRollupId other)) {
+            return false;
+        }
+        return Objects.equals(day, other.day)
+                && Objects.equals(department, other.department)
+                && Objects.equals(employeeId, other.employeeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, department, employeeId);
+    }
+}
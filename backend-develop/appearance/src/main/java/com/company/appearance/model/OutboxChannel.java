@@ -0,0 +1,10 @@
+package com.company.appearance.model;
+
+/**
+ * Integrations that receive evaluation side effects through the outbox.
+ * Every channel has its own outbox rows, so each tracks its own progress.
+ */
+public enum OutboxChannel {
+    GOOGLE_CHAT,
+    GOOGLE_SHEETS
+}
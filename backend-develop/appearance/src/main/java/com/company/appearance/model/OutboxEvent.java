@@ -0,0 +1,189 @@
+package com.company.appearance.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * OutboxEvent is one pending side effect of a saved evaluation for one channel.
+ *
+ * Rows are written in the transaction that saves the evaluation, so a side
+ * effect exists exactly when the evaluation does, and are delivered later by
+ * the outbox poller. Only the evaluation ID and evaluator are stored; the
+ * message is rebuilt from the evaluation when it is delivered.
+ */
+@Entity
+@Table(name = "integration_outbox", indexes = {
+        // Poller lookup: due rows of one channel in insertion order
+        @Index(name = "idx_outbox_channel_status_next_attempt", columnList = "channel, status, next_attempt_at, id")
+})
+public class OutboxEvent {
+
+    /**
+     * Id field. Pooled sequence ids keep the inserts batchable with the evaluation.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "integration_outbox_id")
+    @SequenceGenerator(name = "integration_outbox_id", sequenceName = "integration_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Channel field.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxChannel channel;
+
+    /**
+     * EvaluationId field.
+     */
+    @Column(name = "evaluation_id", nullable = false)
+    private Long evaluationId;
+
+    /**
+     * Username of the evaluator at save time (nullable).
+     */
+    private String evaluatorUsername;
+
+    /**
+     * Status field.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status;
+
+    /**
+     * Number of failed delivery attempts.
+     */
+    private int attempts;
+
+    /**
+     * Earliest time of the next delivery attempt.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Error of the last failed attempt.
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * CreatedAt field.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Time the row became SENT or DEAD.
+     */
+    private LocalDateTime processedAt;
+
+    /**
+     * Constructor for JPA.
+     */
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(OutboxChannel channel, Long evaluationId, String evaluatorUsername, LocalDateTime createdAt) {
+        this.channel = channel;
+        this.evaluationId = evaluationId;
+        this.evaluatorUsername = evaluatorUsername;
+        this.status = OutboxStatus.PENDING;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    /**
+     * Leases the row to the dispatcher that claimed it: it is not due again
+     * until the lease ends, unless the outcome is recorded first.
+     * @param until end of the lease
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    /**
+     * Ends the lease without an attempt, making the row due again.
+     * @param now current time
+     */
+    public void release(LocalDateTime now) {
+        this.nextAttemptAt = now;
+    }
+
+    /**
+     * Marks the row as delivered.
+     * @param now current time
+     */
+    public void markSent(LocalDateTime now) {
+        this.status = OutboxStatus.SENT;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * Records a failed attempt and schedules the next one, or gives up.
+     * @param error failure message
+     * @param nextAttemptAt time of the next attempt, or null to dead-letter the row
+     * @param now current time
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, LocalDateTime now) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (nextAttemptAt == null) {
+            this.status = OutboxStatus.DEAD;
+            this.processedAt = now;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxChannel getChannel() {
+        return channel;
+    }
+
+    public Long getEvaluationId() {
+        return evaluationId;
+    }
+
+    public String getEvaluatorUsername() {
+        return evaluatorUsername;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+}
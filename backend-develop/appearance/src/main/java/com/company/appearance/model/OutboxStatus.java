@@ -0,0 +1,13 @@
+package com.company.appearance.model;
+
+/**
+ * Delivery state of an outbox row.
+ */
+public enum OutboxStatus {
+    /** Waiting for (re)delivery at nextAttemptAt. */
+    PENDING,
+    /** Delivered (or intentionally skipped by the integration). */
+    SENT,
+    /** Gave up after the maximum number of attempts. */
+    DEAD
+}
@@ -0,0 +1,22 @@
+package com.company.appearance.model.face;
+
+/**
+ * Strategy that decides which Haar cascades run and in what order.
+ */
+public enum DetectionStrategy {
+    /**
+     * Frontal cascade first; profile cascades (original and mirrored) only if no frontal face is found.
+     */
+    FRONTAL_FIRST,
+
+    /**
+     * Run every cascade and keep the largest box.
+     */
+    BOTH,
+
+    /**
+     * Choose the cascade order from the upload's face angle: profile first for left/right shots,
+     * frontal first otherwise. Stops at the first cascade that finds a face.
+     */
+    ANGLE_AWARE
+}
@@ -2,14 +2,17 @@ package com.company.appearance.model.face;
 
 /**
  * Result of face detection operation containing bounding box and cropped image.
+ * The perceptual hash is a 64-bit dHash of the crop, used to match near-identical frames.
  */
 public class FaceDetectionResult {
     private final FaceBox faceBox;
     private final byte[] croppedImage;
+    private final long perceptualHash;
 
-    public FaceDetectionResult(FaceBox faceBox, byte[] croppedImage) {
+    public FaceDetectionResult(FaceBox faceBox, byte[] croppedImage, long perceptualHash) {
         this.faceBox = faceBox;
         this.croppedImage = croppedImage;
+        this.perceptualHash = perceptualHash;
     }
 
     public FaceBox getFaceBox() {
@@ -19,4 +22,8 @@ public class FaceDetectionResult {
     public byte[] getCroppedImage() {
         return croppedImage;
     }
+
+    public long getPerceptualHash() {
+        return perceptualHash;
+    }
 }
@@ -0,0 +1,50 @@
+package com.company.appearance.model.face;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request-scoped result of processing the 5 registration angles.
+ * Every angle is decoded, detected and cropped exactly once; the resulting
+ * face box and cropped JPEG are then reused by validation, registration and
+ * any debug output. No native memory is held here - the decoded Mats are
+ * released as soon as each angle has been cropped.
+ */
+public class FaceImageContext {
+    private final Map<FaceAngle, FaceDetectionResult> results;
+
+    public FaceImageContext(Map<FaceAngle, FaceDetectionResult> results) {
+        this.results = Collections.unmodifiableMap(new EnumMap<>(results));
+    }
+
+    public FaceDetectionResult get(FaceAngle angle) {
+        FaceDetectionResult result = results.get(angle);
+        if (result == null) {
+            throw new IllegalArgumentException("No processed image for " + angle.getKey() + " angle");
+        }
+        return result;
+    }
+
+    /**
+     * Gets the cropped faces in angle order (front, left, right, up, down).
+     *
+     * @return Cropped face JPEG bytes
+     */
+    public List<byte[]> getCroppedFaces() {
+        List<byte[]> croppedFaces = new ArrayList<>(results.size());
+        for (FaceAngle angle : FaceAngle.values()) {
+            FaceDetectionResult result = results.get(angle);
+            if (result != null) {
+                croppedFaces.add(result.getCroppedImage());
+            }
+        }
+        return croppedFaces;
+    }
+
+    public int size() {
+        return results.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.company.appearance.model.face;
+
+/**
+ * Backend used to encode Mats into JPEG/PNG bytes.
+ */
+public enum ImageEncoderType {
+    /**
+     * OpenCV imencode, encoding straight from native memory.
+     */
+    OPENCV,
+
+    /**
+     * Java ImageIO writer, kept as a fallback.
+     */
+    IMAGEIO
+}
@@ -0,0 +1,35 @@
+package com.company.appearance.model.face;
+
+import static org.bytedeco.opencv.global.opencv_imgproc.INTER_AREA;
+import static org.bytedeco.opencv.global.opencv_imgproc.INTER_CUBIC;
+import static org.bytedeco.opencv.global.opencv_imgproc.INTER_LINEAR;
+
+/**
+ * Interpolation used when resizing face crops.
+ */
+public enum ResizeInterpolation {
+    /**
+     * Pixel-area averaging, best quality for downscaling.
+     */
+    AREA(INTER_AREA),
+
+    /**
+     * Bilinear, fastest.
+     */
+    LINEAR(INTER_LINEAR),
+
+    /**
+     * Bicubic, sharper but slower.
+     */
+    CUBIC(INTER_CUBIC);
+
+    private final int openCvFlag;
+
+    ResizeInterpolation(int openCvFlag) {
+        this.openCvFlag = openCvFlag;
+    }
+
+    public int getOpenCvFlag() {
+        return openCvFlag;
+    }
+}
@@ -1,11 +1,23 @@
 // Repository interface for AppearanceEvaluation persistence operations
 package com.company.appearance.repository;
 
+import com.company.appearance.dto.AppearanceEvaluationSummary;
 import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.AppearanceRule;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * AppearanceEvaluationRepository provides persistence operations for
@@ -14,6 +26,21 @@ import java.util.List;
 public interface AppearanceEvaluationRepository
         extends JpaRepository<AppearanceEvaluation, Long> {
 
+    String SUMMARY_SELECT = "select new com.company.appearance.dto.AppearanceEvaluationSummary("
+            + "e.id, e.passed, e.score, e.violationMask, e.evaluatedAt, e.ruleVersion, emp.id, emp.name, emp.position, emp.department) "
+            + "from AppearanceEvaluation e join e.employee emp ";
+
+    String SUMMARY_ORDER = " order by e.evaluatedAt desc, e.id desc";
+
+    String BEFORE_CURSOR = "(e.evaluatedAt < :evaluatedAt or (e.evaluatedAt = :evaluatedAt and e.id < :id))";
+
+    /**
+     * Loads evaluations with their employee in one query (outbox dispatch).
+     */
+    @EntityGraph(attributePaths = { "employee" })
+    List<AppearanceEvaluation> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = { "employee" })
     List<AppearanceEvaluation> findByEmployeeIdOrderByEvaluatedAtDesc(String employeeId);
 
     List<AppearanceEvaluation> findByEvaluatedAtBetween(
@@ -26,7 +53,17 @@ public interface AppearanceEvaluationRepository
 
     List<AppearanceEvaluation> findByScoreLessThanEqual(int score);
 
-    List<AppearanceEvaluation> findByViolationsContaining(String violation);
+    List<AppearanceEvaluation> findByViolationMaskIn(Collection<Integer> violationMasks);
+
+    /**
+     * Finds evaluations that violated a rule, as an indexed IN lookup on violation_mask.
+     *
+     * @param rule the violated rule
+     * @return matching evaluations
+     */
+    default List<AppearanceEvaluation> findByViolation(AppearanceRule rule) {
+        return findByViolationMaskIn(rule.masksContaining());
+    }
 
     List<AppearanceEvaluation> findByEmployeeIdAndEvaluatedAtBetween(
             String employeeId,
@@ -37,6 +74,7 @@ public interface AppearanceEvaluationRepository
             String employeeId,
             boolean passed);
 
+    @EntityGraph(attributePaths = { "employee" })
     List<AppearanceEvaluation> findByEmployee_NameContainingIgnoreCaseOrderByEvaluatedAtDesc(String name);
 
     /**
@@ -47,6 +85,54 @@ public interface AppearanceEvaluationRepository
      */
     void deleteByEmployeeId(String employeeId);
 
+    @EntityGraph(attributePaths = { "employee" })
     List<AppearanceEvaluation> findAllByOrderByEvaluatedAtDesc();
 
+    /**
+     * First page of evaluation summaries, newest first.
+     */
+    @Query(SUMMARY_SELECT + SUMMARY_ORDER)
+    List<AppearanceEvaluationSummary> findSummaries(Limit limit);
+
+    /**
+     * Evaluation summaries after a keyset cursor, newest first.
+     * Served by the (evaluated_at, id) index without an offset scan.
+     */
+    @Query(SUMMARY_SELECT + "where " + BEFORE_CURSOR + SUMMARY_ORDER)
+    List<AppearanceEvaluationSummary> findSummariesBefore(
+            @Param("evaluatedAt") LocalDateTime evaluatedAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query(SUMMARY_SELECT + "where emp.id = :employeeId" + SUMMARY_ORDER)
+    List<AppearanceEvaluationSummary> findSummariesByEmployeeId(
+            @Param("employeeId") String employeeId,
+            Limit limit);
+
+    @Query(SUMMARY_SELECT + "where emp.id = :employeeId and " + BEFORE_CURSOR + SUMMARY_ORDER)
+    List<AppearanceEvaluationSummary> findSummariesByEmployeeIdBefore(
+            @Param("employeeId") String employeeId,
+            @Param("evaluatedAt") LocalDateTime evaluatedAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    long countByEmployeeId(String employeeId);
+
+    /**
+     * Streams evaluations of a time range as scalar rows for export, oldest first.
+     * A fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @return rows of [id, evaluatedAt, employeeId, employeeName, department, position,
+     *         passed, score, ruleVersion, violationMask]
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e.id, e.evaluatedAt, emp.id, emp.name, emp.department, emp.position, e.passed, e.score, "
+            + "e.ruleVersion, e.violationMask from AppearanceEvaluation e join e.employee emp "
+            + "where e.evaluatedAt >= :from and e.evaluatedAt < :to order by e.evaluatedAt, e.id")
+    Stream<Object[]> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
 }
@@ -0,0 +1,82 @@
+// Repository interface for EvaluationDailyRollup persistence operations
+package com.company.appearance.repository;
+
+import com.company.appearance.dto.DailyEvaluationStats;
+import com.company.appearance.model.EvaluationDailyRollup;
+import com.company.appearance.model.EvaluationDailyRollupId;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * EvaluationDailyRollupRepository maintains and queries the daily evaluation rollup.
+ */
+public interface EvaluationDailyRollupRepository
+        extends JpaRepository<EvaluationDailyRollup, EvaluationDailyRollupId> {
+
+    String DAILY_STATS_SELECT = "select new com.company.appearance.dto.DailyEvaluationStats("
+            + "r.id.day, sum(r.evaluations), sum(r.passes), sum(r.scoreSum)) from EvaluationDailyRollup r ";
+
+    String DAILY_STATS_GROUP = " group by r.id.day order by r.id.day";
+
+    /**
+     * Adds to a rollup row, creating it if needed. Atomic under concurrent writers.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO evaluation_daily_rollups (day, department, employee_id, evaluations, passes, score_sum) "
+            + "VALUES (:day, :department, :employeeId, :evaluations, :passes, :scoreSum) "
+            + "ON DUPLICATE KEY UPDATE evaluations = evaluations + VALUES(evaluations), "
+            + "passes = passes + VALUES(passes), score_sum = score_sum + VALUES(score_sum)",
+            nativeQuery = true)
+    void increment(@Param("day") LocalDate day,
+            @Param("department") String department,
+            @Param("employeeId") String employeeId,
+            @Param("evaluations") long evaluations,
+            @Param("passes") long passes,
+            @Param("scoreSum") long scoreSum);
+
+    /**
+     * Rebuilds the rollup from all saved evaluations. Only used while the rollup is empty.
+     * INSERT IGNORE skips rows another instance has already written, so concurrent
+     * startups against an empty rollup cannot fail on a duplicate key.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO evaluation_daily_rollups (day, department, employee_id, evaluations, passes, score_sum) "
+            + "SELECT DATE(e.evaluated_at), COALESCE(emp.department, ''), e.employee_id, COUNT(*), "
+            + "SUM(CASE WHEN e.passed THEN 1 ELSE 0 END), SUM(e.score) "
+            + "FROM appearance_evaluations e JOIN employees emp ON emp.id = e.employee_id "
+            + "WHERE e.evaluated_at IS NOT NULL "
+            + "GROUP BY DATE(e.evaluated_at), COALESCE(emp.department, ''), e.employee_id",
+            nativeQuery = true)
+    int backfillFromEvaluations();
+
+    @Query(DAILY_STATS_SELECT + DAILY_STATS_GROUP)
+    List<DailyEvaluationStats> findDailyStats();
+
+    @Query(DAILY_STATS_SELECT + "where r.id.day between :from and :to" + DAILY_STATS_GROUP)
+    List<DailyEvaluationStats> findDailyStatsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(DAILY_STATS_SELECT + "where r.id.department = :department and r.id.day between :from and :to"
+            + DAILY_STATS_GROUP)
+    List<DailyEvaluationStats> findDailyStatsBetweenForDepartment(@Param("from") LocalDate from,
+            @Param("to") LocalDate to, @Param("department") String department);
+
+    @Query("select coalesce(sum(r.evaluations), 0) from EvaluationDailyRollup r where r.id.day = :day")
+    long sumEvaluationsByDay(@Param("day") LocalDate day);
+
+    /**
+     * Removes the rollup rows of an employee whose evaluations were deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from EvaluationDailyRollup r where r.id.employeeId = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") String employeeId);
+}
@@ -0,0 +1,50 @@
+// Repository interface for OutboxEvent persistence operations
+package com.company.appearance.repository;
+
+import com.company.appearance.model.OutboxChannel;
+import com.company.appearance.model.OutboxEvent;
+import com.company.appearance.model.OutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OutboxEventRepository provides persistence operations for OutboxEvent entities.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Claims due rows of a channel, oldest first.
+     * Rows are locked with SKIP LOCKED (lock timeout -2), so concurrent pollers
+     * (other threads or instances) claim disjoint rows instead of waiting.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.channel = :channel and o.status = :status "
+            + "and o.nextAttemptAt <= :now order by o.id")
+    List<OutboxEvent> findDueForUpdate(@Param("channel") OutboxChannel channel,
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Limit limit);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * Deletes rows that reached a final status before the given time.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent o where o.status = :status and o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -1,5 +1,6 @@
 package com.company.appearance.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,7 +25,8 @@ import java.util.Collections;
  * It handles JWT-specific authentication by:
  * 1. Skipping public endpoints (login, register, refresh, swagger, OPTIONS)
  * 2. Extracting JWT from Authorization header
- * 3. Validating access token (signature, expiration, type=access)
+ * 3. Validating access token (signature, expiration, type=access) with a single
+ *    JwtService call, served from its verified-token cache when possible
  * 4. Setting SecurityContext with user's authentication
  */
 @Component
@@ -77,23 +79,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Validate access token and set authentication context
         try {
-            if (jwtService.validateToken(token)) {
-                String username = jwtService.extractUsername(token);
-                String role = jwtService.extractRole(token);
-                String tokenType = jwtService.extractType(token);
-
-                // Ensure it's an access token (not refresh token)
-                if ("access".equals(tokenType) || tokenType == null) {
-                    // Create authority with ROLE_ prefix (required by Spring Security)
-                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            username,
-                            null,
-                            Collections.singletonList(authority)
-                    );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+            // Null for invalid, expired or refresh tokens
+            Claims claims = jwtService.parseAccessToken(token);
+            if (claims != null) {
+                String username = claims.getSubject();
+                String role = claims.get("role", String.class);
+
+                // Create authority with ROLE_ prefix (required by Spring Security)
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        username,
+                        null,
+                        Collections.singletonList(authority)
+                );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception e) {
             // Token validation failed - continue without authentication
@@ -1,28 +1,38 @@
 package com.company.appearance.service;
 
+import com.company.appearance.config.CompiledRules;
+import com.company.appearance.config.EvaluationProperties;
 import com.company.appearance.config.RuleConfig;
 import com.company.appearance.config.RuleConfigLoader;
+import com.company.appearance.dto.AppearanceEvaluationBatchItem;
+import com.company.appearance.dto.AppearanceEvaluationBatchResponse;
+import com.company.appearance.dto.AppearanceEvaluationPage;
 import com.company.appearance.dto.AppearanceEvaluationRequest;
 import com.company.appearance.dto.AppearanceEvaluationResponse;
+import com.company.appearance.dto.AppearanceEvaluationSummary;
+import com.company.appearance.dto.EvaluationCursor;
 import com.company.appearance.dto.PoseData;
-import com.company.appearance.dto.integration.AppearanceEvaluationSnapshot;
 import com.company.appearance.model.AppearanceCriteria;
 import com.company.appearance.model.AppearanceEvaluation;
 import com.company.appearance.model.Employee;
 import com.company.appearance.repository.AppearanceEvaluationRepository;
 import com.company.appearance.repository.EmployeeRepository;
-import com.company.appearance.service.integration.GoogleChatNotificationService;
-import com.company.appearance.service.integration.GoogleSheetsExportService;
+import com.company.appearance.service.integration.OutboxService;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service class responsible for rule-based appearance evaluation.
@@ -36,100 +46,186 @@ public class AppearanceEvaluationService {
     private final AppearanceEvaluationRepository appearanceEvaluationRepository;
     private final EmployeeRepository employeeRepository;
     private final RuleConfigLoader ruleConfigLoader;
-    private final GoogleChatNotificationService googleChatNotificationService;
-    private final GoogleSheetsExportService googleSheetsExportService;
-
-    // Mapping rule → user-friendly message
-    private static final Map<String, String> VIOLATION_MESSAGES = Map.of(
-            "shirt", "Shirt does not meet the dress code",
-            "pants", "Pants do not meet the dress code",
-            "shoes", "Shoes do not meet the dress code",
-            "tie", "Tie does not meet the dress code",
-            "hat", "Hat does not meet the dress code",
-            "hair", "Hair style does not meet the dress code");
+    private final OutboxService outboxService;
+    private final EvaluationProperties evaluationProperties;
+    private final EvaluationStatsService evaluationStatsService;
 
     public AppearanceEvaluationService(RuleConfigLoader ruleConfigLoader,
             AppearanceEvaluationRepository appearanceEvaluationRepository,
             EmployeeRepository employeeRepository,
-            GoogleChatNotificationService googleChatNotificationService,
-            GoogleSheetsExportService googleSheetsExportService) {
+            OutboxService outboxService,
+            EvaluationProperties evaluationProperties,
+            EvaluationStatsService evaluationStatsService) {
+        this.evaluationProperties = evaluationProperties;
+        this.evaluationStatsService = evaluationStatsService;
         this.ruleConfigLoader = ruleConfigLoader;
         this.appearanceEvaluationRepository = appearanceEvaluationRepository;
         this.employeeRepository = employeeRepository;
-        this.googleChatNotificationService = googleChatNotificationService;
-        this.googleSheetsExportService = googleSheetsExportService;
+        this.outboxService = outboxService;
     }
 
     /**
-     * Evaluate appearance based on rule-config.json and save to database
+     * Evaluate appearance based on rule-config.json and save to database.
+     * The daily rollup and the integration outbox rows are written in the same transaction.
      */
+    @Transactional
     public AppearanceEvaluationResponse evaluate(AppearanceEvaluationRequest request) {
-        AppearanceCriteria criteria = request.getCriteria();
-        PoseData pose = request.getPose();
-        RuleConfig ruleConfig = ruleConfigLoader.getRuleConfig();
-        boolean poseStraight = isPoseStraight(pose, ruleConfig.getPose());
-
-        if (!poseStraight) {
-            List<String> violations = buildPoseViolations(pose, ruleConfig.getPose());
-
-            return new AppearanceEvaluationResponse(
-                    null,
-                    request.getEmployeeId(),
-                    false,
-                    0,
-                    violations,
-                    LocalDateTime.now(),
-                    criteria,
-                    pose,
-                    false,
-                    false);
+        // Read the rule snapshot once; a concurrent reload does not affect this evaluation
+        CompiledRules rules = ruleConfigLoader.getCompiledRules();
+        AppearanceEvaluationResponse poseRejection = rejectPose(request, rules);
+        if (poseRejection != null) {
+            return poseRejection;
         }
 
-        List<String> violations = new ArrayList<>();
+        // Find employee by ID
+        Employee employee = employeeRepository.findById(request.getEmployeeId())
+                .orElseThrow(
+                        () -> new IllegalArgumentException("Employee not found with ID: " + request.getEmployeeId()));
+
+        AppearanceEvaluation savedEvaluation = appearanceEvaluationRepository.save(
+                buildEvaluation(request, employee, rules));
+        evaluationStatsService.record(List.of(savedEvaluation));
+
+        outboxService.enqueue(List.of(savedEvaluation), currentUsername());
+
+        return toResponse(savedEvaluation, request);
+    }
+
+    /**
+     * Evaluates a list of requests with one employee lookup and one batched insert.
+     *
+     * Each item is scored like {@link #evaluate}. An item with an unknown employee
+     * or missing criteria is reported on its own and does not fail the batch; the
+     * remaining evaluations are saved, added to the daily rollup and queued in the
+     * integration outbox in one transaction.
+     *
+     * @param requests evaluation requests
+     * @return per-item results in input order
+     * @throws IllegalArgumentException if the batch is empty or too large
+     */
+    @Transactional
+    public AppearanceEvaluationBatchResponse evaluateBatch(List<AppearanceEvaluationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one evaluation is required");
+        }
+        if (requests.size() > evaluationProperties.getBatchMaxItems()) {
+            throw new IllegalArgumentException(
+                    "At most " + evaluationProperties.getBatchMaxItems() + " evaluations are allowed per batch, received "
+                            + requests.size());
+        }
 
-        // Check required rules dynamically
-        for (String rule : ruleConfig.getRequired()) {
-            if (!isCriteriaSatisfied(criteria, rule)) {
-                violations.add(VIOLATION_MESSAGES.getOrDefault(rule, rule));
+        CompiledRules rules = ruleConfigLoader.getCompiledRules();
+
+        Set<String> employeeIds = new HashSet<>();
+        for (AppearanceEvaluationRequest request : requests) {
+            if (request != null && request.getEmployeeId() != null) {
+                employeeIds.add(request.getEmployeeId());
             }
         }
+        Map<String, Employee> employees = new HashMap<>();
+        for (Employee employee : employeeRepository.findAllById(employeeIds)) {
+            employees.put(employee.getId(), employee);
+        }
 
-        boolean passed = violations.isEmpty();
+        AppearanceEvaluationBatchItem[] items = new AppearanceEvaluationBatchItem[requests.size()];
+        List<AppearanceEvaluation> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            AppearanceEvaluationRequest request = requests.get(i);
+            String employeeId = request != null ? request.getEmployeeId() : null;
+            try {
+                if (request == null || request.getCriteria() == null) {
+                    throw new IllegalArgumentException("Criteria is required");
+                }
+                AppearanceEvaluationResponse poseRejection = rejectPose(request, rules);
+                if (poseRejection != null) {
+                    items[i] = AppearanceEvaluationBatchItem.success(i, employeeId, poseRejection);
+                    continue;
+                }
+                Employee employee = employees.get(employeeId);
+                if (employee == null) {
+                    throw new IllegalArgumentException("Employee not found with ID: " + employeeId);
+                }
+                pending.add(buildEvaluation(request, employee, rules));
+                pendingIndexes.add(i);
+            } catch (RuntimeException e) {
+                items[i] = AppearanceEvaluationBatchItem.failure(i, employeeId, e);
+            }
+        }
 
-        int baseScore = ruleConfig.getScore().getBase();
-        int penalty = ruleConfig.getScore().getPenaltyPerViolation();
-        int minScore = ruleConfig.getScore().getMinScore();
+        // Sequence ids are assigned on persist, so the inserts are flushed as JDBC batches
+        List<AppearanceEvaluation> saved = appearanceEvaluationRepository.saveAll(pending);
+        evaluationStatsService.record(saved);
+        outboxService.enqueue(saved, currentUsername());
+
+        for (int j = 0; j < saved.size(); j++) {
+            int index = pendingIndexes.get(j);
+            AppearanceEvaluationRequest request = requests.get(index);
+            AppearanceEvaluation savedEvaluation = saved.get(j);
+            items[index] = AppearanceEvaluationBatchItem.success(index, request.getEmployeeId(),
+                    toResponse(savedEvaluation, request));
+        }
 
-        int score = Math.max(baseScore - violations.size() * penalty, minScore);
+        return new AppearanceEvaluationBatchResponse(Arrays.asList(items));
+    }
 
-        LocalDateTime evaluatedAt = LocalDateTime.now();
+    /**
+     * Returns the unsaved rejection response if the pose is not straight, otherwise null.
+     */
+    private AppearanceEvaluationResponse rejectPose(AppearanceEvaluationRequest request, CompiledRules rules) {
+        PoseData pose = request.getPose();
+        if (isPoseStraight(pose, rules.getPose())) {
+            return null;
+        }
 
-        // Find employee by ID
-        Employee employee = employeeRepository.findById(request.getEmployeeId())
-                .orElseThrow(
-                        () -> new IllegalArgumentException("Employee not found with ID: " + request.getEmployeeId()));
+        List<String> violations = buildPoseViolations(pose, rules.getPose());
+
+        return new AppearanceEvaluationResponse(
+                null,
+                request.getEmployeeId(),
+                false,
+                0,
+                violations,
+                LocalDateTime.now(),
+                request.getCriteria(),
+                pose,
+                false,
+                false);
+    }
+
+    /**
+     * Scores the clothing criteria and builds the entity to save.
+     */
+    private AppearanceEvaluation buildEvaluation(AppearanceEvaluationRequest request, Employee employee,
+            CompiledRules rules) {
+        AppearanceCriteria criteria = request.getCriteria();
+
+        // Check required rules (predicates compiled at load time)
+        int violationMask = rules.violationMask(criteria);
+
+        boolean passed = violationMask == 0;
+
+        int baseScore = rules.getScore().getBase();
+        int penalty = rules.getScore().getPenaltyPerViolation();
+        int minScore = rules.getScore().getMinScore();
+
+        int score = Math.max(baseScore - Integer.bitCount(violationMask) * penalty, minScore);
 
-        // Create and save AppearanceEvaluation entity
         AppearanceEvaluation evaluation = new AppearanceEvaluation(
                 employee,
                 criteria,
                 passed,
                 score,
-                violations,
+                violationMask,
                 null, // note can be null for now
-                evaluatedAt);
-
-        AppearanceEvaluation savedEvaluation = appearanceEvaluationRepository.save(evaluation);
-
-        // Build immutable snapshot to avoid LAZY loading issues in async methods
-        AppearanceEvaluationSnapshot snapshot = buildSnapshot(savedEvaluation, employee, criteria);
-
-        // Send Google Chat notification (async, best-effort)
-        googleChatNotificationService.notify(snapshot);
-
-        // Export to Google Sheets (async, best-effort)
-        googleSheetsExportService.append(snapshot);
+                LocalDateTime.now());
+        evaluation.setRuleVersion(rules.getVersion());
+        return evaluation;
+    }
 
+    private AppearanceEvaluationResponse toResponse(AppearanceEvaluation savedEvaluation,
+            AppearanceEvaluationRequest request) {
         // Return response with all fields populated
         return new AppearanceEvaluationResponse(
                 savedEvaluation.getId(),
@@ -138,8 +234,8 @@ public class AppearanceEvaluationService {
                 savedEvaluation.getScore(),
                 savedEvaluation.getViolations(),
                 savedEvaluation.getEvaluatedAt(),
-                criteria,
-                pose,
+                request.getCriteria(),
+                request.getPose(),
                 true,
                 true);
     }
@@ -233,53 +329,64 @@ public class AppearanceEvaluationService {
     }
 
     /**
-     * Builds immutable snapshot from saved evaluation entity.
-     * Must be called within transaction while employee and violations are accessible.
+     * Gets the evaluator username from the SecurityContext if available.
      */
-    private AppearanceEvaluationSnapshot buildSnapshot(
-            AppearanceEvaluation savedEvaluation, 
-            Employee employee, 
-            AppearanceCriteria criteria) {
-        
-        // Get evaluator username from SecurityContext if available
-        String evaluatorUsername = null;
+    private String currentUsername() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()) {
-            evaluatorUsername = authentication.getName();
+            return authentication.getName();
         }
-
-        return new AppearanceEvaluationSnapshot(
-                savedEvaluation.getId(),
-                employee.getId(),
-                employee.getName(),
-                employee.getDepartment(),
-                employee.getPosition(),
-                savedEvaluation.isPassed(),
-                savedEvaluation.getScore(),
-                new ArrayList<>(savedEvaluation.getViolations()), // Copy to avoid LAZY issues
-                savedEvaluation.getEvaluatedAt(),
-                savedEvaluation.getNote(),
-                criteria.isHat(),
-                criteria.isHair(),
-                criteria.isTie(),
-                criteria.isShirt(),
-                criteria.isPants(),
-                criteria.isShoes(),
-                evaluatorUsername
-        );
+        return null;
     }
 
     /**
-     * Dynamically checks criteria like isShirt(), isPants(), ...
+     * Lists evaluation summaries newest first using a keyset cursor.
+     *
+     * One query fetches size + 1 summaries joined with their employee (the extra
+     * row tells whether another page exists); violations are decoded from each
+     * row's mask, so the cost depends on the page size and not the table size.
+     *
+     * @param employeeId   restrict to one employee (nullable)
+     * @param cursor       nextCursor of the previous page (nullable for the first page)
+     * @param size         requested page size (nullable for the default)
+     * @param includeTotal also count all matching evaluations
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is malformed
      */
-    private boolean isCriteriaSatisfied(AppearanceCriteria criteria, String rule) {
-        try {
-            String methodName = "is" + rule.substring(0, 1).toUpperCase() + rule.substring(1);
-            Method method = AppearanceCriteria.class.getMethod(methodName);
-            return (boolean) method.invoke(criteria);
-        } catch (Exception e) {
-            return false;
+    @Transactional(readOnly = true)
+    public AppearanceEvaluationPage listPage(String employeeId, String cursor, Integer size, boolean includeTotal) {
+        int pageSize = size == null ? evaluationProperties.getDefaultPageSize()
+                : Math.max(1, Math.min(size, evaluationProperties.getMaxPageSize()));
+        Limit limit = Limit.of(pageSize + 1);
+        EvaluationCursor position = cursor == null || cursor.isBlank() ? null : EvaluationCursor.decode(cursor);
+
+        List<AppearanceEvaluationSummary> rows;
+        if (employeeId == null) {
+            rows = position == null
+                    ? appearanceEvaluationRepository.findSummaries(limit)
+                    : appearanceEvaluationRepository.findSummariesBefore(position.getEvaluatedAt(), position.getId(), limit);
+        } else {
+            rows = position == null
+                    ? appearanceEvaluationRepository.findSummariesByEmployeeId(employeeId, limit)
+                    : appearanceEvaluationRepository.findSummariesByEmployeeIdBefore(
+                            employeeId, position.getEvaluatedAt(), position.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+            AppearanceEvaluationSummary last = rows.get(pageSize - 1);
+            nextCursor = new EvaluationCursor(last.getEvaluatedAt(), last.getId()).encode();
         }
+
+        Long total = null;
+        if (includeTotal) {
+            total = employeeId == null
+                    ? appearanceEvaluationRepository.count()
+                    : appearanceEvaluationRepository.countByEmployeeId(employeeId);
+        }
+
+        return new AppearanceEvaluationPage(rows, nextCursor, total);
     }
 
     public List<AppearanceEvaluation> getAll() {
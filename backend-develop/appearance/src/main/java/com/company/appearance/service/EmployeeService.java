@@ -23,12 +23,19 @@ public class EmployeeService {
      */
     private final EmployeeRepository repository;
 
+    /**
+     * Keeps the daily evaluation rollup in line with deleted evaluations.
+     */
+    private final EvaluationStatsService evaluationStatsService;
+
     /**
      * Constructor for injecting Employee dependencies.
      * @param repository the EmployeeRepository instance
+     * @param evaluationStatsService the EvaluationStatsService instance
      */
-    public EmployeeService(EmployeeRepository repository) {
+    public EmployeeService(EmployeeRepository repository, EvaluationStatsService evaluationStatsService) {
         this.repository = repository;
+        this.evaluationStatsService = evaluationStatsService;
     }
 
     /**
@@ -122,13 +129,15 @@ public class EmployeeService {
 
     /**
      * Deletes an employee by ID.
-     * All related appearance evaluations will be automatically deleted due to cascade configuration.
+     * All related appearance evaluations will be automatically deleted due to cascade configuration,
+     * and their daily rollup rows are removed with them.
      * 
      * @param id the employee ID to delete
      */
     @Transactional
     public void delete(String id){
         repository.deleteById(id);
+        evaluationStatsService.forgetEmployee(id);
     }
 
     /**
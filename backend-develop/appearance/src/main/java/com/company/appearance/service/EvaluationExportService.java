@@ -0,0 +1,162 @@
+package com.company.appearance.service;
+
+import com.company.appearance.model.AppearanceRule;
+import com.company.appearance.model.ExportFormat;
+import com.company.appearance.repository.AppearanceEvaluationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service that writes evaluations of a time range as CSV or NDJSON.
+ *
+ * Rows are read through a forward-only streaming result set as scalar values,
+ * so neither the persistence context nor the heap grows with the export; only
+ * the row currently being written is held in memory.
+ */
+@Service
+public class EvaluationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationExportService.class);
+
+    private static final String[] CSV_HEADER = {
+            "id", "evaluatedAt", "employeeId", "employeeName", "department", "position",
+            "passed", "score", "ruleVersion", "violations"
+    };
+
+    private static final String VIOLATION_SEPARATOR = "; ";
+
+    private final AppearanceEvaluationRepository appearanceEvaluationRepository;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public EvaluationExportService(AppearanceEvaluationRepository appearanceEvaluationRepository) {
+        this.appearanceEvaluationRepository = appearanceEvaluationRepository;
+    }
+
+    /**
+     * Writes all evaluations with from <= evaluatedAt < to, oldest first.
+     * Runs in its own read-only transaction, which keeps the cursor open while writing.
+     *
+     * @param from   start of the range (inclusive)
+     * @param to     end of the range (exclusive)
+     * @param format output format
+     * @param out    response stream; not closed
+     * @return number of evaluations written
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long count = 0;
+        try (Stream<Object[]> rows = appearanceEvaluationRepository.streamExportRows(from, to)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                rowWriter.write(row, AppearanceRule.messagesOf((Integer) row[9]));
+                count++;
+            }
+        }
+        rowWriter.finish();
+        writer.flush();
+
+        logger.info("Exported {} evaluations ({}) from {} to {}", count, format, from, to);
+        return count;
+    }
+
+    private interface RowWriter {
+        void write(Object[] row, List<String> violations) throws IOException;
+
+        default void finish() throws IOException {
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Object[] row, List<String> violations) throws IOException {
+            for (int i = 0; i < 9; i++) {
+                writeField(row[i]);
+                writer.write(',');
+            }
+            writeField(String.join(VIOLATION_SEPARATOR, violations));
+            writer.write("\r\n");
+        }
+
+        private void writeField(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = mapper.getFactory().createGenerator(writer);
+            // Keep the buffered writer's batching; flushing per row would send one chunk per evaluation
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Object[] row, List<String> violations) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", (Long) row[0]);
+            generator.writeStringField("evaluatedAt", row[1] != null ? row[1].toString() : null);
+            generator.writeStringField("employeeId", (String) row[2]);
+            generator.writeStringField("employeeName", (String) row[3]);
+            generator.writeStringField("department", (String) row[4]);
+            generator.writeStringField("position", (String) row[5]);
+            generator.writeBooleanField("passed", (Boolean) row[6]);
+            generator.writeNumberField("score", (Integer) row[7]);
+            generator.writeStringField("ruleVersion", (String) row[8]);
+            generator.writeArrayFieldStart("violations");
+            for (String violation : violations) {
+                generator.writeString(violation);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
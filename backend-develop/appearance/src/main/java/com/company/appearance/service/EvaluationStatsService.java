@@ -0,0 +1,138 @@
+package com.company.appearance.service;
+
+import com.company.appearance.dto.DailyEvaluationStats;
+import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.EvaluationDailyRollupId;
+import com.company.appearance.repository.AppearanceEvaluationRepository;
+import com.company.appearance.repository.EvaluationDailyRollupRepository;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service that maintains the daily evaluation rollup and serves dashboard statistics.
+ *
+ * Evaluations are added to the rollup in the same transaction that saves them,
+ * so statistics read O(days) rollup rows instead of the whole evaluation history.
+ */
+@Service
+public class EvaluationStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationStatsService.class);
+
+    private final EvaluationDailyRollupRepository rollupRepository;
+    private final AppearanceEvaluationRepository evaluationRepository;
+
+    public EvaluationStatsService(EvaluationDailyRollupRepository rollupRepository,
+            AppearanceEvaluationRepository evaluationRepository) {
+        this.rollupRepository = rollupRepository;
+        this.evaluationRepository = evaluationRepository;
+    }
+
+    /**
+     * Builds the rollup from existing evaluations the first time the table is used.
+     * The emptiness check is only a shortcut: the insert itself ignores existing
+     * keys, so several instances may run it at once.
+     */
+    @PostConstruct
+    public void backfill() {
+        if (rollupRepository.count() > 0 || evaluationRepository.count() == 0) {
+            return;
+        }
+        int rows = rollupRepository.backfillFromEvaluations();
+        logger.info("Backfilled {} daily evaluation rollup rows", rows);
+    }
+
+    /**
+     * Adds saved evaluations to the rollup, one upsert per day, department and employee.
+     * Must run in the transaction that saved them.
+     *
+     * @param evaluations saved evaluations
+     */
+    public void record(List<AppearanceEvaluation> evaluations) {
+        Map<EvaluationDailyRollupId, long[]> totals = new LinkedHashMap<>();
+        for (AppearanceEvaluation evaluation : evaluations) {
+            String department = evaluation.getEmployee().getDepartment();
+            EvaluationDailyRollupId key = new EvaluationDailyRollupId(
+                    evaluation.getEvaluatedAt().toLocalDate(),
+                    department != null ? department : "",
+                    evaluation.getEmployee().getId());
+            long[] counters = totals.computeIfAbsent(key, k -> new long[3]);
+            counters[0]++;
+            counters[1] += evaluation.isPassed() ? 1 : 0;
+            counters[2] += evaluation.getScore();
+        }
+
+        for (Map.Entry<EvaluationDailyRollupId, long[]> entry : totals.entrySet()) {
+            EvaluationDailyRollupId key = entry.getKey();
+            long[] counters = entry.getValue();
+            rollupRepository.increment(key.getDay(), key.getDepartment(), key.getEmployeeId(),
+                    counters[0], counters[1], counters[2]);
+        }
+    }
+
+    /**
+     * Removes the rollup rows of an employee whose evaluations were deleted.
+     *
+     * @param employeeId the employee ID
+     */
+    public void forgetEmployee(String employeeId) {
+        rollupRepository.deleteByEmployeeId(employeeId);
+    }
+
+    /**
+     * Gets the pass rate over a date range.
+     *
+     * @param from first day (inclusive), or null together with to for all time
+     * @param to   last day (inclusive)
+     * @return percentage of passed evaluations (0-100), 0 when there are none
+     */
+    public double getPassRate(LocalDate from, LocalDate to) {
+        List<DailyEvaluationStats> days = from == null && to == null
+                ? rollupRepository.findDailyStats()
+                : rollupRepository.findDailyStatsBetween(
+                        from != null ? from : LocalDate.of(1970, 1, 1),
+                        to != null ? to : LocalDate.now());
+        long evaluations = 0;
+        long passes = 0;
+        for (DailyEvaluationStats day : days) {
+            evaluations += day.getEvaluations();
+            passes += day.getPasses();
+        }
+        return evaluations == 0 ? 0 : passes * 100.0 / evaluations;
+    }
+
+    /**
+     * Gets the number of saved evaluations on a day.
+     *
+     * @param day the day
+     * @return evaluation count
+     */
+    public long getCountForDay(LocalDate day) {
+        return rollupRepository.sumEvaluationsByDay(day);
+    }
+
+    /**
+     * Gets per-day statistics over a date range.
+     *
+     * @param from       first day (inclusive)
+     * @param to         last day (inclusive)
+     * @param department restrict to one department (nullable)
+     * @return one entry per day with evaluations, oldest first
+     */
+    public List<DailyEvaluationStats> getDailyStats(LocalDate from, LocalDate to, String department) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return department == null
+                ? rollupRepository.findDailyStatsBetween(from, to)
+                : rollupRepository.findDailyStatsBetweenForDepartment(from, to, department);
+    }
+}
@@ -2,13 +2,19 @@ package com.company.appearance.service;
 
 import com.company.appearance.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -29,28 +35,34 @@ import java.util.function.Function;
  * - Algorithm: HS512 (HMAC-SHA512)
  * - Secret key must be at least 512 bits (64 bytes) for HS512
  * - Configure in application-dev.properties: app.jwt.secret=<long-random-string>
+ *
+ * Performance:
+ * - The signing key and parser are built once
+ * - Verified claims are cached by SHA-256 of the token until the token expires,
+ *   so a repeated token costs one hash and one map lookup instead of an HMAC
+ *   verification. Only correctly signed tokens are cached; the cache is bounded
+ *   by app.jwt.verificationCacheSize.
  */
 @Service
 public class JwtService {
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Map<String, Claims> verifiedTokens = new ConcurrentHashMap<>();
 
     /**
      * Constructor for dependency injection.
+     * Builds the HMAC key and the thread-safe parser once.
      *
      * @param jwtProperties JWT configuration properties
      */
     public JwtService(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
-    }
-
-    /**
-     * Generates a secret key from the configured secret string for signing JWT tokens.
-     *
-     * @return SecretKey for HMAC-SHA signing
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     /**
@@ -71,7 +83,7 @@ public class JwtService {
                 .claim("type", "access")
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -93,7 +105,7 @@ public class JwtService {
                 .claim("type", "refresh")
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -188,11 +200,75 @@ public class JwtService {
      * @return Claims result
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String key = hash(token);
+        Claims claims = verifiedTokens.get(key);
+        if (claims != null) {
+            if (!isExpired(claims)) {
+                return claims;
+            }
+            verifiedTokens.remove(key);
+        }
+
+        // Throws for a bad signature or an expired token; those are never cached
+        claims = parser.parseSignedClaims(token).getPayload();
+        cache(key, claims);
+        return claims;
+    }
+
+    /**
+     * Verifies an access token once and returns its claims.
+     * Used by JwtAuthenticationFilter so a request needs a single lookup.
+     *
+     * @param token JWT token string
+     * @return Claims of a valid, unexpired access token, or null if the token is invalid
+     */
+    public Claims parseAccessToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            String type = claims.get("type", String.class);
+            // Allow tokens without type claim for backward compatibility (treat as access)
+            if (type != null && !"access".equals(type)) {
+                return null;
+            }
+            return isExpired(claims) ? null : claims;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Caches verified claims. When the cache is full, expired entries are
+     * dropped first; if it is still full, it is cleared.
+     */
+    private void cache(String key, Claims claims) {
+        int maxSize = jwtProperties.getVerificationCacheSize() != null ? jwtProperties.getVerificationCacheSize() : 0;
+        if (maxSize <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+        if (verifiedTokens.size() >= maxSize) {
+            verifiedTokens.values().removeIf(this::isExpired);
+            if (verifiedTokens.size() >= maxSize) {
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(key, claims);
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * SHA-256 of the token, so cache keys do not keep usable tokens in memory.
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
@@ -247,29 +323,14 @@ public class JwtService {
             String type = claims.get("type", String.class);
             // Allow tokens without type claim for backward compatibility (treat as access)
             if (type == null && "access".equals(expectedType)) {
-                return !isTokenExpired(token);
+                return !isExpired(claims);
             }
             if (type == null || !expectedType.equals(type)) {
                 return false;
             }
-            return !isTokenExpired(token);
+            return !isExpired(claims);
         } catch (Exception e) {
             return false;
         }
     }
-
-    /**
-     * Checks if a JWT token has expired.
-     *
-     * @param token JWT token string to check
-     * @return true if token is expired, false otherwise
-     */
-    /**
-     * Validates the provided token or security context.
-     * @param token the token value
-     * @return boolean result
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
 }
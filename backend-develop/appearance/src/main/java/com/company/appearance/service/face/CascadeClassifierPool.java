@@ -0,0 +1,168 @@
+package com.company.appearance.service.face;
+
+import com.company.appearance.exception.face.FaceDetectionException;
+import com.company.appearance.exception.face.FaceDetectorBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bytedeco.opencv.opencv_objdetect.CascadeClassifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of frontal/profile cascade classifier pairs.
+ *
+ * OpenCV classifiers are not safe to share across threads, so each detection
+ * borrows a pair for exclusive use and returns it afterwards. Pairs are loaded
+ * lazily from the cascade XML files extracted at startup, up to the configured
+ * pool size. Wait time, timeouts and pool occupancy are published as metrics.
+ */
+public class CascadeClassifierPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CascadeClassifierPool.class);
+
+    private final Path frontalCascadeFile;
+    private final Path profileCascadeFile;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+
+    private final LinkedBlockingQueue<Classifiers> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger borrowed = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public CascadeClassifierPool(Path frontalCascadeFile,
+                                 Path profileCascadeFile,
+                                 int maxSize,
+                                 long borrowTimeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        this.frontalCascadeFile = frontalCascadeFile;
+        this.profileCascadeFile = profileCascadeFile;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+
+        this.waitTimer = Timer.builder("face.detection.pool.wait")
+            .description("Time spent waiting to borrow cascade classifiers")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("face.detection.pool.timeouts")
+            .description("Borrow attempts that timed out")
+            .register(meterRegistry);
+        Gauge.builder("face.detection.pool.active", borrowed, AtomicInteger::get)
+            .description("Cascade classifier pairs currently in use")
+            .register(meterRegistry);
+        Gauge.builder("face.detection.pool.idle", idle, LinkedBlockingQueue::size)
+            .description("Cascade classifier pairs loaded and available")
+            .register(meterRegistry);
+        Gauge.builder("face.detection.pool.max", () -> maxSize)
+            .description("Maximum cascade classifier pairs")
+            .register(meterRegistry);
+
+        // Load one pair eagerly so a corrupt cascade file fails at startup
+        created.incrementAndGet();
+        idle.add(createClassifiers());
+    }
+
+    /**
+     * Borrows a classifier pair, loading a new one if the pool is not full.
+     *
+     * @return Classifier pair for exclusive use by the calling thread
+     * @throws FaceDetectorBusyException if none becomes available within the borrow timeout
+     */
+    public Classifiers borrow() {
+        long start = System.nanoTime();
+        Classifiers classifiers = idle.poll();
+
+        if (classifiers == null && tryReserveSlot()) {
+            try {
+                classifiers = createClassifiers();
+            } catch (RuntimeException e) {
+                created.decrementAndGet();
+                throw e;
+            }
+        }
+
+        if (classifiers == null) {
+            try {
+                classifiers = idle.poll(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FaceDetectionException("Interrupted while waiting for a face detector", e);
+            }
+        }
+
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (classifiers == null) {
+            timeoutCounter.increment();
+            throw new FaceDetectorBusyException(
+                "All " + maxSize + " face detectors are busy. Please retry shortly.");
+        }
+
+        borrowed.incrementAndGet();
+        return classifiers;
+    }
+
+    /**
+     * Returns a borrowed classifier pair to the pool.
+     */
+    public void release(Classifiers classifiers) {
+        borrowed.decrementAndGet();
+        idle.offer(classifiers);
+    }
+
+    private boolean tryReserveSlot() {
+        int current;
+        do {
+            current = created.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!created.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Classifiers createClassifiers() {
+        CascadeClassifier frontal = load(frontalCascadeFile);
+        CascadeClassifier profile;
+        try {
+            profile = load(profileCascadeFile);
+        } catch (RuntimeException e) {
+            frontal.close();
+            throw e;
+        }
+        logger.debug("Loaded cascade classifier pair {}/{}", created.get(), maxSize);
+        return new Classifiers(frontal, profile);
+    }
+
+    private static CascadeClassifier load(Path cascadeFile) {
+        CascadeClassifier cascade = new CascadeClassifier(cascadeFile.toString());
+        if (cascade.empty()) {
+            cascade.close();
+            throw new FaceDetectionException("Failed to load cascade from file: " + cascadeFile);
+        }
+        return cascade;
+    }
+
+    @Override
+    public void close() {
+        Classifiers classifiers;
+        while ((classifiers = idle.poll()) != null) {
+            classifiers.frontal().close();
+            classifiers.profile().close();
+        }
+    }
+
+    /**
+     * Frontal and profile classifiers borrowed together.
+     */
+    public record Classifiers(CascadeClassifier frontal, CascadeClassifier profile) { }
+}
@@ -4,18 +4,26 @@ import com.company.appearance.config.face.FaceDetectionProperties;
 import com.company.appearance.model.face.FaceBox;
 import com.company.appearance.model.face.FaceDetectionResult;
 import com.company.appearance.util.face.ImageIOUtil;
+import com.company.appearance.util.face.PerceptualHash;
+
+import com.company.appearance.model.face.ResizeInterpolation;
 
 import org.bytedeco.opencv.opencv_core.Mat;
 import org.bytedeco.opencv.opencv_core.Rect;
+import org.bytedeco.opencv.opencv_core.Scalar;
+import org.bytedeco.opencv.opencv_core.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import static org.bytedeco.opencv.global.opencv_core.BORDER_CONSTANT;
+import static org.bytedeco.opencv.global.opencv_core.copyMakeBorder;
+import static org.bytedeco.opencv.global.opencv_imgproc.resize;
 
 /**
  * Service for cropping face regions from images.
+ * Crops larger than the configured target size are downscaled (aspect preserved)
+ * before JPEG encoding, so the Face API never receives full camera resolution.
  */
 @Service
 public class FaceCropService {
@@ -31,31 +39,26 @@ public class FaceCropService {
     }
 
     /**
-     * Crops the face region from an image based on the detected bounding box.
-     * Applies a configurable margin around the face.
+     * Crops the face region from an OpenCV Mat.
+     * Uses separate horizontal and vertical margins for rectangular cropping.
      *
-     * @param file Original image file
+     * @param image Original image
      * @param faceBox Detected face bounding box
      * @return Cropped face image as JPEG bytes
      */
-    public byte[] cropFace(MultipartFile file, FaceBox faceBox) {
-        try {
-            Mat image = imageIOUtil.multipartFileToMat(file);
-            return cropFace(image, faceBox);
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to read image for cropping", e);
-        }
+    public byte[] cropFace(Mat image, FaceBox faceBox) {
+        return detectAndCrop(image, faceBox).getCroppedImage();
     }
 
     /**
-     * Crops the face region from an OpenCV Mat.
-     * Uses separate horizontal and vertical margins for rectangular cropping.
+     * Detects and crops face in one operation.
+     * The crop is hashed (dHash) from the same Mat that is encoded.
      *
-     * @param image Original image
-     * @param faceBox Detected face bounding box
-     * @return Cropped face image as JPEG bytes
+     * @param image Image as Mat
+     * @param faceBox Detected face box
+     * @return FaceDetectionResult with box, cropped image and perceptual hash
      */
-    public byte[] cropFace(Mat image, FaceBox faceBox) {
+    public FaceDetectionResult detectAndCrop(Mat image, FaceBox faceBox) {
         // Calculate margins separately for horizontal and vertical
         double marginHorizontal = properties.getMarginHorizontal();
         double marginVertical = properties.getMarginVertical();
@@ -78,31 +81,83 @@ public class FaceCropService {
             faceBox, marginHorizontal * 100, marginVertical * 100, cropX, cropY, cropWidth, cropHeight);
 
         // Crop the region - create ROI view first
-        Rect cropRect = new Rect(cropX, cropY, cropWidth, cropHeight);
-        
         // Clone ROI to make it continuous in memory (fixes JPEG encoding corruption)
         Mat croppedMat;
-        try (Mat roiMat = new Mat(image, cropRect)) {
+        try (Rect cropRect = new Rect(cropX, cropY, cropWidth, cropHeight);
+             Mat roiMat = new Mat(image, cropRect)) {
             croppedMat = roiMat.clone();
             logger.debug("Cloned ROI Mat to ensure continuous memory for JPEG encoding");
         }
 
-        // Convert to JPEG bytes
-        byte[] croppedBytes = imageIOUtil.matToJpegBytes(croppedMat);
-        croppedMat.release();
-        
-        return croppedBytes;
+        Mat outputMat = resizeToTarget(croppedMat);
+
+        // Hash and convert to JPEG bytes
+        try {
+            long perceptualHash = PerceptualHash.dHash(outputMat);
+            byte[] croppedImage = imageIOUtil.matToJpegBytes(outputMat);
+            return new FaceDetectionResult(faceBox, croppedImage, perceptualHash);
+        } finally {
+            if (outputMat != croppedMat) {
+                outputMat.release();
+            }
+            croppedMat.release();
+        }
     }
 
     /**
-     * Detects and crops face in one operation.
+     * Downscales a crop to fit the configured target size, keeping its aspect ratio.
+     * Crops already within the target are never upscaled. With letterboxing enabled
+     * the result is padded with black to exactly the target size.
      *
-     * @param image Image as Mat
-     * @param faceBox Detected face box
-     * @return FaceDetectionResult with box and cropped image
+     * @param crop Cropped face
+     * @return Resized crop, or the same Mat if no resizing is configured or needed
      */
-    public FaceDetectionResult detectAndCrop(Mat image, FaceBox faceBox) {
-        byte[] croppedImage = cropFace(image, faceBox);
-        return new FaceDetectionResult(faceBox, croppedImage);
+    private Mat resizeToTarget(Mat crop) {
+        int targetWidth = properties.getCropTargetWidth() != null ? properties.getCropTargetWidth() : 0;
+        int targetHeight = properties.getCropTargetHeight() != null ? properties.getCropTargetHeight() : 0;
+        if (targetWidth <= 0 || targetHeight <= 0) {
+            return crop;
+        }
+
+        double scale = Math.min(1.0, Math.min(
+            (double) targetWidth / crop.cols(),
+            (double) targetHeight / crop.rows()));
+        int width = Math.max(1, (int) Math.round(crop.cols() * scale));
+        int height = Math.max(1, (int) Math.round(crop.rows() * scale));
+        boolean letterbox = Boolean.TRUE.equals(properties.getCropLetterbox());
+
+        if (scale >= 1.0 && !letterbox) {
+            return crop;
+        }
+
+        Mat resized = crop;
+        if (scale < 1.0) {
+            ResizeInterpolation interpolation = properties.getCropInterpolation() != null
+                ? properties.getCropInterpolation()
+                : ResizeInterpolation.AREA;
+            resized = new Mat();
+            try (Size size = new Size(width, height)) {
+                resize(crop, resized, size, 0, 0, interpolation.getOpenCvFlag());
+            }
+            logger.debug("Resized crop from {}x{} to {}x{} ({})",
+                crop.cols(), crop.rows(), width, height, interpolation);
+        }
+
+        if (!letterbox || (width == targetWidth && height == targetHeight)) {
+            return resized;
+        }
+
+        int padX = targetWidth - width;
+        int padY = targetHeight - height;
+        Mat boxed = new Mat();
+        try (Scalar black = new Scalar(0, 0, 0, 0)) {
+            copyMakeBorder(resized, boxed, padY / 2, padY - padY / 2, padX / 2, padX - padX / 2,
+                BORDER_CONSTANT, black);
+        } finally {
+            if (resized != crop) {
+                resized.release();
+            }
+        }
+        return boxed;
     }
 }
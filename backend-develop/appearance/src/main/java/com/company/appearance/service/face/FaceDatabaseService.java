@@ -23,10 +23,14 @@ public class FaceDatabaseService {
 
     private final FaceApiClient apiClient;
     private final FaceApiProperties apiProperties;
+    private final FaceRecognitionCache recognitionCache;
 
-    public FaceDatabaseService(FaceApiClient apiClient, FaceApiProperties apiProperties) {
+    public FaceDatabaseService(FaceApiClient apiClient,
+                               FaceApiProperties apiProperties,
+                               FaceRecognitionCache recognitionCache) {
         this.apiClient = apiClient;
         this.apiProperties = apiProperties;
+        this.recognitionCache = recognitionCache;
     }
 
     /**
@@ -96,7 +100,12 @@ public class FaceDatabaseService {
         
         logger.info("Deleting person '{}' from {} database", name, normalizedModel);
         
-        FaceDatabaseDeleteResponse result = apiClient.deletePerson(name, normalizedModel);
+        FaceDatabaseDeleteResponse result;
+        try {
+            result = apiClient.deletePerson(name, normalizedModel);
+        } finally {
+            recognitionCache.invalidateAll("deleted person '" + name + "'");
+        }
         
         logger.info("Delete result - success: {}, message: {}", result.isSuccess(), result.getMessage());
         
@@ -2,8 +2,11 @@ package com.company.appearance.service.face;
 
 import com.company.appearance.config.face.FaceDetectionProperties;
 import com.company.appearance.exception.face.FaceDetectionException;
+import com.company.appearance.model.face.DetectionStrategy;
+import com.company.appearance.model.face.FaceAngle;
 import com.company.appearance.model.face.FaceBox;
-import com.company.appearance.util.face.ImageIOUtil;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import org.bytedeco.opencv.opencv_core.Mat;
 import org.bytedeco.opencv.opencv_core.Rect;
@@ -14,9 +17,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -26,9 +29,28 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import static org.bytedeco.opencv.global.opencv_core.flip;
+import static org.bytedeco.opencv.global.opencv_imgproc.COLOR_BGR2GRAY;
+import static org.bytedeco.opencv.global.opencv_imgproc.INTER_AREA;
+import static org.bytedeco.opencv.global.opencv_imgproc.cvtColor;
+import static org.bytedeco.opencv.global.opencv_imgproc.equalizeHist;
+import static org.bytedeco.opencv.global.opencv_imgproc.resize;
+
 /**
  * Service for detecting faces in images using OpenCV Haar cascades.
  * Supports frontal and profile face detection with configurable parameters.
+ *
+ * CascadeClassifier is not safe to share across threads, so every detection
+ * borrows its own classifiers from a bounded {@link CascadeClassifierPool},
+ * loaded from the cascade XML files extracted once at startup.
+ *
+ * In fast mode, detection runs on an equalized grayscale copy downscaled to a
+ * working width and the boxes are mapped back to original coordinates, so
+ * cropping still happens at full resolution.
+ *
+ * The configured {@link DetectionStrategy} decides which cascades run and whether
+ * detection stops at the first cascade that finds a face. The profile cascade only
+ * recognises faces turned to one side, so it also runs on the mirrored image.
  */
 @Service
 public class FaceDetectionService {
@@ -50,11 +72,13 @@ public class FaceDetectionService {
         "haarcascades/haarcascade_profileface.xml"
     };
 
+    // A box lying this much inside a larger kept box is the same face
+    private static final double CONTAINMENT_THRESHOLD = 0.7;
+
     private final FaceDetectionProperties properties;
-    private final ImageIOUtil imageIOUtil;
+    private final MeterRegistry meterRegistry;
 
-    private CascadeClassifier frontalCascade;
-    private CascadeClassifier profileCascade;
+    private CascadeClassifierPool classifierPool;
 
     /**
      * If cascade files are missing, we still allow the application to start.
@@ -63,23 +87,32 @@ public class FaceDetectionService {
      */
     private boolean detectionEnabled = true;
 
-    public FaceDetectionService(FaceDetectionProperties properties, ImageIOUtil imageIOUtil) {
+    public FaceDetectionService(FaceDetectionProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
-        this.imageIOUtil = imageIOUtil;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct
     public void init() {
         try {
-            frontalCascade = loadCascadeClassifier(FRONTAL_CASCADE_PATH, FRONTAL_FALLBACKS);
-            logger.info("Loaded frontal face cascade classifier");
-
-            profileCascade = loadCascadeClassifier(PROFILE_CASCADE_PATH, PROFILE_FALLBACKS);
-            logger.info("Loaded profile face cascade classifier");
+            Path frontalCascadeFile = extractCascadeFile(FRONTAL_CASCADE_PATH, FRONTAL_FALLBACKS);
+            Path profileCascadeFile = extractCascadeFile(PROFILE_CASCADE_PATH, PROFILE_FALLBACKS);
+
+            int poolSize = properties.getClassifierPoolSize() != null && properties.getClassifierPoolSize() > 0
+                ? properties.getClassifierPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+
+            classifierPool = new CascadeClassifierPool(
+                frontalCascadeFile,
+                profileCascadeFile,
+                poolSize,
+                properties.getClassifierBorrowTimeoutMs(),
+                meterRegistry
+            );
+            logger.info("Loaded frontal and profile face cascade classifiers (pool size {})", poolSize);
         } catch (Exception e) {
             detectionEnabled = false;
-            frontalCascade = null;
-            profileCascade = null;
+            classifierPool = null;
             logger.error(
                 "Failed to load cascade classifiers. Face detection is DISABLED. " +
                 "To enable detection, add cascade XML files under src/main/resources/face-detection/ (see README).",
@@ -88,7 +121,7 @@ public class FaceDetectionService {
         }
     }
 
-    private CascadeClassifier loadCascadeClassifier(String primaryResourcePath, String[] fallbackResourcePaths)
+    private Path extractCascadeFile(String primaryResourcePath, String[] fallbackResourcePaths)
         throws IOException {
 
         ClassPathResource resource = new ClassPathResource(primaryResourcePath);
@@ -118,33 +151,39 @@ public class FaceDetectionService {
             Files.copy(is, tempFile, StandardCopyOption.REPLACE_EXISTING);
         }
 
-        CascadeClassifier cascade = new CascadeClassifier(tempFile.toString());
-        if (cascade.empty()) {
-            throw new FaceDetectionException("Failed to load cascade from resource: " + resource.getPath());
-        }
-
-        return cascade;
+        return tempFile;
     }
 
-    public FaceBox detectBestFace(MultipartFile file) {
-        try {
-            Mat image = imageIOUtil.multipartFileToMat(file);
-            return detectBestFace(image);
-        } catch (IOException e) {
-            throw new FaceDetectionException("Failed to read image file", e);
+    @PreDestroy
+    public void close() {
+        if (classifierPool != null) {
+            classifierPool.close();
         }
     }
 
     public FaceBox detectBestFace(Mat image) {
+        return detectBestFace(image, null);
+    }
+
+    /**
+     * Detects the best face, using the upload's angle to order the cascades.
+     *
+     * @param image Image to search
+     * @param angle Angle the photo was taken from, or null if unknown
+     * @return Largest face box found by the cascades that ran
+     */
+    public FaceBox detectBestFace(Mat image, FaceAngle angle) {
         if (!detectionEnabled) {
             // Fallback: return full image bounds so pipeline can continue.
             return new FaceBox(0, 0, image.cols(), image.rows(), 0.0);
         }
 
-        List<FaceBox> allFaces = new ArrayList<>();
+        DetectionStrategy strategy = properties.getDetectionStrategy() != null
+            ? properties.getDetectionStrategy()
+            : DetectionStrategy.ANGLE_AWARE;
+        boolean stopOnFirstHit = strategy != DetectionStrategy.BOTH;
 
-        allFaces.addAll(detectFaces(image, frontalCascade, "frontal"));
-        allFaces.addAll(detectFaces(image, profileCascade, "profile"));
+        List<FaceBox> allFaces = runPasses(image, planPasses(strategy, angle), stopOnFirstHit);
 
         if (allFaces.isEmpty()) {
             throw new IllegalArgumentException(
@@ -161,33 +200,239 @@ public class FaceDetectionService {
         return bestFace;
     }
 
-    private List<FaceBox> detectFaces(Mat image, CascadeClassifier cascade, String cascadeType) {
+    /**
+     * Detects every face in the image.
+     * All cascades run (frontal, profile and mirrored profile), and overlapping boxes
+     * of the same face are merged by non-maximum suppression, keeping the larger box.
+     *
+     * @param image Image to search
+     * @return Distinct face boxes, largest first (at most the configured max faces)
+     * @throws IllegalArgumentException if no face is found
+     */
+    public List<FaceBox> detectAllFaces(Mat image) {
+        if (!detectionEnabled) {
+            return List.of(new FaceBox(0, 0, image.cols(), image.rows(), 0.0));
+        }
+
+        List<FaceBox> allFaces = runPasses(image,
+            List.of(CascadePass.FRONTAL, CascadePass.PROFILE, CascadePass.PROFILE_MIRRORED), false);
+
+        if (allFaces.isEmpty()) {
+            throw new IllegalArgumentException(
+                "No face detected in the image. Please ensure the image contains a clear, visible face.");
+        }
+
+        int maxFaces = properties.getMaxFaces() != null && properties.getMaxFaces() > 0
+            ? properties.getMaxFaces()
+            : Integer.MAX_VALUE;
+        List<FaceBox> faces = suppressOverlaps(allFaces, properties.getNmsIouThreshold(), maxFaces);
+
+        logger.debug("Detected {} distinct faces ({} raw boxes)", faces.size(), allFaces.size());
+        return List.copyOf(faces);
+    }
+
+    /**
+     * Runs cascade passes on one prepared input, optionally stopping at the first pass with a hit.
+     */
+    private List<FaceBox> runPasses(Mat image, List<CascadePass> passes, boolean stopOnFirstHit) {
+        List<FaceBox> allFaces = new ArrayList<>();
+
+        DetectionInput input = prepareInput(image);
+        Mat mirrored = null;
+        CascadeClassifierPool.Classifiers classifiers = classifierPool.borrow();
+        try {
+            for (CascadePass pass : passes) {
+                switch (pass) {
+                    case FRONTAL -> allFaces.addAll(
+                        detectFaces(input.mat(), false, input.scale(), image, classifiers.frontal(), "frontal"));
+                    case PROFILE -> allFaces.addAll(
+                        detectFaces(input.mat(), false, input.scale(), image, classifiers.profile(), "profile"));
+                    case PROFILE_MIRRORED -> {
+                        if (mirrored == null) {
+                            mirrored = new Mat();
+                            flip(input.mat(), mirrored, 1);
+                        }
+                        allFaces.addAll(
+                            detectFaces(mirrored, true, input.scale(), image, classifiers.profile(), "mirrored profile"));
+                    }
+                }
+                if (stopOnFirstHit && !allFaces.isEmpty()) {
+                    logger.debug("Stopping after {} cascade", pass);
+                    break;
+                }
+            }
+        } finally {
+            classifierPool.release(classifiers);
+            if (mirrored != null) {
+                mirrored.release();
+            }
+            input.release();
+        }
+        return allFaces;
+    }
+
+    /**
+     * Greedy non-maximum suppression. Haar cascades give no usable scores, so boxes
+     * are ranked by area; a box is dropped if its IoU with a kept box exceeds the
+     * threshold or if it lies mostly inside a kept box. At most maxFaces boxes are
+     * returned, largest first.
+     */
+    static List<FaceBox> suppressOverlaps(List<FaceBox> boxes, double iouThreshold, int maxFaces) {
+        List<FaceBox> sorted = new ArrayList<>(boxes);
+        sorted.sort(Comparator.comparingInt(FaceBox::getArea).reversed());
+
+        List<FaceBox> kept = new ArrayList<>();
+        for (FaceBox candidate : sorted) {
+            boolean duplicate = false;
+            for (FaceBox box : kept) {
+                double intersection = intersectionArea(candidate, box);
+                double union = candidate.getArea() + box.getArea() - intersection;
+                if (intersection / union > iouThreshold
+                        || intersection / candidate.getArea() > CONTAINMENT_THRESHOLD) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                kept.add(candidate);
+                if (kept.size() == maxFaces) {
+                    break;
+                }
+            }
+        }
+        return kept;
+    }
+
+    private static double intersectionArea(FaceBox a, FaceBox b) {
+        int left = Math.max(a.getX(), b.getX());
+        int top = Math.max(a.getY(), b.getY());
+        int right = Math.min(a.getX() + a.getWidth(), b.getX() + b.getWidth());
+        int bottom = Math.min(a.getY() + a.getHeight(), b.getY() + b.getHeight());
+        if (right <= left || bottom <= top) {
+            return 0;
+        }
+        return (double) (right - left) * (bottom - top);
+    }
+
+    /**
+     * Builds the image the cascades run on.
+     * Full mode uses the original Mat; fast mode uses an equalized grayscale
+     * copy no wider than the configured working width.
+     */
+    private DetectionInput prepareInput(Mat image) {
+        if (!Boolean.TRUE.equals(properties.getFastMode())) {
+            return new DetectionInput(image, 1.0, false);
+        }
+
+        Mat gray = new Mat();
+        if (image.channels() == 1) {
+            image.copyTo(gray);
+        } else {
+            cvtColor(image, gray, COLOR_BGR2GRAY);
+        }
+
+        int workingWidth = properties.getWorkingWidth();
+        double scale = 1.0;
+        if (workingWidth > 0 && gray.cols() > workingWidth) {
+            scale = (double) gray.cols() / workingWidth;
+            int workingHeight = (int) Math.round(gray.rows() / scale);
+            Mat small = new Mat();
+            try (Size workingSize = new Size(workingWidth, workingHeight)) {
+                resize(gray, small, workingSize, 0, 0, INTER_AREA);
+            }
+            gray.release();
+            gray = small;
+        }
+
+        equalizeHist(gray, gray);
+        logger.debug("Fast detection on {}x{} working image (scale {})", gray.cols(), gray.rows(), scale);
+        return new DetectionInput(gray, scale, true);
+    }
+
+    /**
+     * Orders the cascade passes for a strategy and face angle.
+     */
+    private List<CascadePass> planPasses(DetectionStrategy strategy, FaceAngle angle) {
+        if (strategy == DetectionStrategy.ANGLE_AWARE && angle == FaceAngle.LEFT) {
+            return List.of(CascadePass.PROFILE, CascadePass.PROFILE_MIRRORED, CascadePass.FRONTAL);
+        }
+        if (strategy == DetectionStrategy.ANGLE_AWARE && angle == FaceAngle.RIGHT) {
+            return List.of(CascadePass.PROFILE_MIRRORED, CascadePass.PROFILE, CascadePass.FRONTAL);
+        }
+        return List.of(CascadePass.FRONTAL, CascadePass.PROFILE, CascadePass.PROFILE_MIRRORED);
+    }
+
+    private List<FaceBox> detectFaces(Mat detectionImage, boolean mirrored, double scale, Mat original,
+                                      CascadeClassifier cascade, String cascadeType) {
         List<FaceBox> faces = new ArrayList<>();
 
         if (cascade == null || cascade.empty()) {
             return faces;
         }
 
-        RectVector detections = new RectVector();
-        int minSize = properties.getMinFaceSize();
-
-        cascade.detectMultiScale(
-            image,
-            detections,
-            1.1,
-            3,
-            0,
-            new Size(minSize, minSize),
-            new Size()
-        );
+        int minSize = Math.max(1, (int) Math.round(properties.getMinFaceSize() / scale));
+
+        // Native buffers are released as soon as the boxes are copied out
+        try (RectVector detections = new RectVector();
+             Size minFaceSize = new Size(minSize, minSize);
+             Size maxFaceSize = new Size()) {
+
+            cascade.detectMultiScale(
+                detectionImage,
+                detections,
+                properties.getScaleFactor(),
+                properties.getMinNeighbors(),
+                0,
+                minFaceSize,
+                maxFaceSize
+            );
 
-        logger.debug("Detected {} face(s) with {} cascade", detections.size(), cascadeType);
+            logger.debug("Detected {} face(s) with {} cascade", detections.size(), cascadeType);
 
-        for (int i = 0; i < detections.size(); i++) {
-            Rect rect = detections.get(i);
-            faces.add(new FaceBox(rect.x(), rect.y(), rect.width(), rect.height(), 1.0));
+            for (int i = 0; i < detections.size(); i++) {
+                Rect rect = detections.get(i);
+                if (mirrored) {
+                    // Undo the horizontal flip before mapping back to the original image
+                    rect.x(detectionImage.cols() - rect.x() - rect.width());
+                }
+                faces.add(toOriginalCoordinates(rect, scale, original));
+            }
         }
 
         return faces;
     }
+
+    /**
+     * Maps a box found on the working image back to the original image, clamped to its bounds.
+     */
+    private FaceBox toOriginalCoordinates(Rect rect, double scale, Mat original) {
+        if (scale == 1.0) {
+            return new FaceBox(rect.x(), rect.y(), rect.width(), rect.height(), 1.0);
+        }
+        int x = Math.min(original.cols() - 1, (int) Math.round(rect.x() * scale));
+        int y = Math.min(original.rows() - 1, (int) Math.round(rect.y() * scale));
+        int width = Math.min(original.cols() - x, (int) Math.round(rect.width() * scale));
+        int height = Math.min(original.rows() - y, (int) Math.round(rect.height() * scale));
+        return new FaceBox(x, y, width, height, 1.0);
+    }
+
+    /**
+     * A single cascade run.
+     */
+    private enum CascadePass {
+        FRONTAL,
+        PROFILE,
+        PROFILE_MIRRORED
+    }
+
+    /**
+     * Image the cascades run on, with the factor that maps it back to the original.
+     */
+    private record DetectionInput(Mat mat, double scale, boolean owned) {
+        void release() {
+            if (owned) {
+                mat.release();
+            }
+        }
+    }
 }
@@ -0,0 +1,230 @@
+package com.company.appearance.service.face;
+
+import com.company.appearance.exception.face.FaceDetectionException;
+import com.company.appearance.exception.face.FaceDetectorBusyException;
+import com.company.appearance.model.face.FaceAngle;
+import com.company.appearance.model.face.FaceBox;
+import com.company.appearance.model.face.FaceDetectionResult;
+import com.company.appearance.model.face.FaceImageContext;
+import com.company.appearance.util.face.ImageIOUtil;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Service that turns uploaded images into detected and cropped faces.
+ * Each upload is decoded into a Mat once, detected once and cropped from the
+ * same Mat, which is released before returning.
+ * All decoding, detection and cropping runs on the bounded face detection
+ * executor; callers (virtual request threads) only wait for the result.
+ * Multi-angle uploads are fanned out on the same executor.
+ */
+@Service
+public class FaceExtractionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaceExtractionService.class);
+
+    private final FaceDetectionService detectionService;
+    private final FaceCropService cropService;
+    private final ImageIOUtil imageIOUtil;
+    private final ExecutorService detectionExecutor;
+
+    public FaceExtractionService(FaceDetectionService detectionService,
+                                 FaceCropService cropService,
+                                 ImageIOUtil imageIOUtil,
+                                 @Qualifier("faceDetectionExecutor") ExecutorService detectionExecutor) {
+        this.detectionService = detectionService;
+        this.cropService = cropService;
+        this.imageIOUtil = imageIOUtil;
+        this.detectionExecutor = detectionExecutor;
+    }
+
+    /**
+     * Detects and crops the best face of a single image.
+     *
+     * @param file Uploaded image
+     * @return Face box and cropped face
+     */
+    public FaceDetectionResult extract(MultipartFile file) {
+        return extract(file, null);
+    }
+
+    /**
+     * Detects and crops the best face of an image taken from a known angle.
+     *
+     * @param file Uploaded image
+     * @param angle Angle of the photo, used to pick the cascade order (nullable)
+     * @return Face box and cropped face
+     */
+    public FaceDetectionResult extract(MultipartFile file, FaceAngle angle) {
+        return onDetectionExecutor(() -> extractNow(file, angle));
+    }
+
+    /**
+     * Detects and crops every face of a single image.
+     * The image is decoded once and all crops are taken from the same Mat.
+     *
+     * @param file Uploaded image
+     * @return Face box and cropped face per detected face, largest first
+     */
+    public List<FaceDetectionResult> extractAllFaces(MultipartFile file) {
+        return onDetectionExecutor(() -> extractAllFacesNow(file));
+    }
+
+    private List<FaceDetectionResult> extractAllFacesNow(MultipartFile file) {
+        Mat image = decode(file);
+        try {
+            List<FaceBox> faceBoxes = detectionService.detectAllFaces(image);
+            List<FaceDetectionResult> results = new ArrayList<>(faceBoxes.size());
+            for (FaceBox faceBox : faceBoxes) {
+                results.add(cropService.detectAndCrop(image, faceBox));
+            }
+            return results;
+        } finally {
+            image.release();
+        }
+    }
+
+    /**
+     * Detects and crops the best face of an image on the face detection executor.
+     *
+     * @param file Uploaded image
+     * @return Future completing with the face box and cropped face
+     */
+    public CompletableFuture<FaceDetectionResult> extractAsync(MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> extractNow(file, null), detectionExecutor);
+    }
+
+    /**
+     * Detects the best face of a single image without cropping it.
+     *
+     * @param file Uploaded image
+     * @return Detected face box
+     */
+    public FaceBox detect(MultipartFile file) {
+        return onDetectionExecutor(() -> {
+            Mat image = decode(file);
+            try {
+                return detectionService.detectBestFace(image);
+            } finally {
+                image.release();
+            }
+        });
+    }
+
+    /**
+     * Detects and crops faces for all registration angles in parallel.
+     * Waits for every angle, then reports each angle without a detectable face.
+     *
+     * @param images Uploaded images keyed by angle
+     * @return Context holding the box and crop of every angle
+     * @throws IllegalArgumentException if an angle does not contain a detectable face
+     */
+    public FaceImageContext extractAll(Map<FaceAngle, MultipartFile> images) {
+        Map<FaceAngle, CompletableFuture<FaceDetectionResult>> futures = new EnumMap<>(FaceAngle.class);
+        for (Map.Entry<FaceAngle, MultipartFile> entry : images.entrySet()) {
+            futures.put(entry.getKey(), CompletableFuture.supplyAsync(
+                () -> extractAngle(entry.getValue(), entry.getKey()), detectionExecutor));
+        }
+
+        Map<FaceAngle, FaceDetectionResult> results = new EnumMap<>(FaceAngle.class);
+        List<IllegalArgumentException> failures = new ArrayList<>();
+        for (Map.Entry<FaceAngle, CompletableFuture<FaceDetectionResult>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IllegalArgumentException angleFailure) {
+                    failures.add(angleFailure);
+                } else if (e.getCause() instanceof FaceDetectorBusyException busy) {
+                    throw busy;
+                } else {
+                    throw new FaceDetectionException(
+                        "Face extraction failed for " + entry.getKey().getKey() + " angle image", e.getCause());
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            IllegalArgumentException first = failures.get(0);
+            if (failures.size() == 1) {
+                throw first;
+            }
+            StringBuilder message = new StringBuilder(first.getMessage());
+            for (int i = 1; i < failures.size(); i++) {
+                message.append("; ").append(failures.get(i).getMessage());
+            }
+            IllegalArgumentException combined = new IllegalArgumentException(message.toString(), first.getCause());
+            failures.subList(1, failures.size()).forEach(combined::addSuppressed);
+            throw combined;
+        }
+
+        return new FaceImageContext(results);
+    }
+
+    /**
+     * Detects and crops a face with angle context for better error messages.
+     */
+    private FaceDetectionResult extractAngle(MultipartFile image, FaceAngle angle) {
+        logger.debug("Processing {} angle image", angle.getKey());
+        try {
+            return extractNow(image, angle);
+        } catch (FaceDetectorBusyException e) {
+            // Capacity problem, not a missing face
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException(
+                "No face detected in " + angle.getKey() + " angle image", e);
+        }
+    }
+
+    /**
+     * Decodes, detects and crops on the calling thread. Only called from detection executor tasks.
+     */
+    private FaceDetectionResult extractNow(MultipartFile file, FaceAngle angle) {
+        Mat image = decode(file);
+        try {
+            FaceBox faceBox = detectionService.detectBestFace(image, angle);
+            return cropService.detectAndCrop(image, faceBox);
+        } finally {
+            image.release();
+        }
+    }
+
+    /**
+     * Runs CPU-bound OpenCV work on the bounded detection executor and waits for it.
+     * Request threads are virtual, so waiting here parks them instead of pinning a
+     * carrier thread for the duration of the native calls.
+     */
+    private <T> T onDetectionExecutor(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, detectionExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Mat decode(MultipartFile file) {
+        try {
+            return imageIOUtil.multipartFileToMat(file);
+        } catch (IOException e) {
+            throw new FaceDetectionException("Failed to read image file", e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.company.appearance.service.face;
 
 import com.company.appearance.dto.face.*;
 import com.company.appearance.model.face.FaceBox;
+import com.company.appearance.model.face.FaceDetectionResult;
+import com.company.appearance.model.face.FaceImageContext;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +17,7 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -26,19 +29,16 @@ public class FacePipelineService {
 
     private static final Logger logger = LoggerFactory.getLogger(FacePipelineService.class);
 
-    private final FaceDetectionService detectionService;
-    private final FaceCropService cropService;
+    private final FaceExtractionService extractionService;
     private final FaceRegistrationService registrationService;
     private final FaceRecognitionService recognitionService;
     private final FaceDatabaseService databaseService;
 
-    public FacePipelineService(FaceDetectionService detectionService,
-                                FaceCropService cropService,
+    public FacePipelineService(FaceExtractionService extractionService,
                                 FaceRegistrationService registrationService,
                                 FaceRecognitionService recognitionService,
                                 FaceDatabaseService databaseService) {
-        this.detectionService = detectionService;
-        this.cropService = cropService;
+        this.extractionService = extractionService;
         this.registrationService = registrationService;
         this.recognitionService = recognitionService;
         this.databaseService = databaseService;
@@ -54,7 +54,9 @@ public class FacePipelineService {
     public FaceDetectResponse detectFace(MultipartFile image, boolean includeCrop) {
         logger.info("Detecting face in image: {}", image.getOriginalFilename());
 
-        FaceBox faceBox = detectionService.detectBestFace(image);
+        // Decode and detect once; the crop (if requested) reuses the same Mat
+        FaceDetectionResult detection = includeCrop ? extractionService.extract(image) : null;
+        FaceBox faceBox = detection != null ? detection.getFaceBox() : extractionService.detect(image);
         
         FaceBoxDto boxDto = new FaceBoxDto(
             faceBox.getX(),
@@ -68,7 +70,7 @@ public class FacePipelineService {
         response.setBoundingBox(boxDto);
 
         if (includeCrop) {
-            byte[] croppedImage = cropService.cropFace(image, faceBox);
+            byte[] croppedImage = detection.getCroppedImage();
             String base64Crop = Base64.getEncoder().encodeToString(croppedImage);
             response.setCroppedImageBase64(base64Crop);
             
@@ -148,27 +150,27 @@ public class FacePipelineService {
      * Validates that all 5 images contain detectable faces.
      * This method should be called BEFORE creating an employee to ensure data consistency.
      * Throws IllegalArgumentException if any image does not contain a face.
+     * The returned context should be passed to {@link #registerPerson(String, FaceImageContext, String, Integer)}
+     * so that the images are not decoded and detected a second time.
      *
      * @param front Front view image
      * @param left Left profile image
      * @param right Right profile image
      * @param up Upward tilt image
      * @param down Downward tilt image
+     * @return Detected and cropped faces of all 5 angles
      * @throws IllegalArgumentException if any image does not contain a detectable face
      */
-    public void validateAllFacesDetectable(MultipartFile front,
+    public FaceImageContext validateAllFacesDetectable(MultipartFile front,
                                            MultipartFile left,
                                            MultipartFile right,
                                            MultipartFile up,
                                            MultipartFile down) {
         logger.info("Validating face detection in all 5 images before employee creation");
         
+        FaceImageContext faces;
         try {
-            detectBestFaceWithContext(front, "front");
-            detectBestFaceWithContext(left, "left");
-            detectBestFaceWithContext(right, "right");
-            detectBestFaceWithContext(up, "up");
-            detectBestFaceWithContext(down, "down");
+            faces = registrationService.prepareFaces(front, left, right, up, down);
         } catch (IllegalArgumentException e) {
             // Re-throw with clearer context
             throw new IllegalArgumentException(
@@ -177,19 +179,7 @@ public class FacePipelineService {
         }
         
         logger.info("All 5 images passed face detection validation");
-    }
-
-    /**
-     * Helper method to detect face with angle context for better error messages.
-     */
-    private void detectBestFaceWithContext(MultipartFile image, String angleName) {
-        try {
-            detectionService.detectBestFace(image);
-            logger.debug("Face detected successfully in {} angle", angleName);
-        } catch (Exception e) {
-            throw new IllegalArgumentException(
-                "No face detected in " + angleName + " angle image", e);
-        }
+        return faces;
     }
 
     /**
@@ -206,6 +196,16 @@ public class FacePipelineService {
         return registrationService.registerPerson(name, front, left, right, up, down, model, minQuality);
     }
 
+    /**
+     * Registers a person with faces already validated by {@link #validateAllFacesDetectable}.
+     */
+    public FaceRegisterResponse registerPerson(String name,
+                                                 FaceImageContext faces,
+                                                 String model,
+                                                 Integer minQuality) {
+        return registrationService.registerPerson(name, faces, model, minQuality);
+    }
+
     /**
      * Recognizes a person from an image.
      */
@@ -213,6 +213,20 @@ public class FacePipelineService {
         return recognitionService.recognizePerson(image, model, threshold);
     }
 
+    /**
+     * Recognizes several images in one request, with per-image results.
+     */
+    public FaceBatchRecognizeResponse recognizeBatch(List<MultipartFile> images, String model, Double threshold) {
+        return recognitionService.recognizeBatch(images, model, threshold);
+    }
+
+    /**
+     * Recognizes every face in one image, one identity per bounding box.
+     */
+    public FaceBatchRecognizeResponse recognizeAllFaces(MultipartFile image, String model, Double threshold) {
+        return recognitionService.recognizeAllFaces(image, model, threshold);
+    }
+
     /**
      * Gets database information.
      */
@@ -0,0 +1,186 @@
+package com.company.appearance.service.face;
+
+import com.company.appearance.config.face.FaceApiProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-process cache of Face API recognition responses.
+ *
+ * Entries are keyed by model, threshold and the dHash of the face crop. A lookup
+ * matches any live entry for the same model and threshold whose hash is within the
+ * configured Hamming distance, so consecutive frames of the same person reuse one
+ * remote call. Crops of different people of the same size and pose can hash only a
+ * few bits apart, so the distance must stay small, and callers recognizing several
+ * faces at once ask for exact matches only. The cache is LRU-bounded, entries expire after a TTL, and every
+ * gallery change (registration or deletion) clears it.
+ *
+ * A generation counter guards against a recognition that started before a gallery
+ * change storing its now-stale result afterwards.
+ */
+@Component
+public class FaceRecognitionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaceRecognitionCache.class);
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final int maxDistance;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public FaceRecognitionCache(FaceApiProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = Boolean.TRUE.equals(properties.getRecognitionCacheEnabled());
+        this.ttlMillis = properties.getRecognitionCacheTtlMs();
+        this.maxSize = Math.max(1, properties.getRecognitionCacheMaxSize());
+        this.maxDistance = Math.max(0, properties.getRecognitionCacheMaxDistance());
+
+        this.hits = Counter.builder("face.recognition.cache.hits").register(meterRegistry);
+        this.misses = Counter.builder("face.recognition.cache.misses").register(meterRegistry);
+        meterRegistry.gauge("face.recognition.cache.size", this, FaceRecognitionCache::size);
+
+        logger.info("Recognition cache {}: ttl {} ms, max {} entries, max Hamming distance {}",
+            enabled ? "enabled" : "disabled", ttlMillis, maxSize, maxDistance);
+    }
+
+    /**
+     * Current gallery generation. Pass it back to {@link #put} so results computed
+     * before an invalidation are dropped.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Looks up a cached response for a near-identical crop.
+     *
+     * @param model Normalized model
+     * @param threshold Recognition threshold
+     * @param hash dHash of the face crop
+     * @return Cached Face API response, or null on miss
+     */
+    public Map<String, Object> get(String model, double threshold, long hash) {
+        return get(model, threshold, hash, true);
+    }
+
+    /**
+     * Looks up a cached response for an identical or, if allowed, near-identical crop.
+     *
+     * @param model Normalized model
+     * @param threshold Recognition threshold
+     * @param hash dHash of the face crop
+     * @param nearMatch false to accept only an entry with exactly this hash
+     * @return Cached Face API response, or null on miss
+     */
+    public Map<String, Object> get(String model, double threshold, long hash, boolean nearMatch) {
+        if (!enabled) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        Entry best = null;
+        int bestDistance = Integer.MAX_VALUE;
+
+        synchronized (this) {
+            Entry exact = entries.get(new Key(model, threshold, hash));
+            if (exact != null && exact.expiresAt() > now) {
+                best = exact;
+            } else if (nearMatch && maxDistance > 0) {
+                Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Key, Entry> candidate = iterator.next();
+                    if (candidate.getValue().expiresAt() <= now) {
+                        iterator.remove();
+                        continue;
+                    }
+                    Key key = candidate.getKey();
+                    if (!key.model().equals(model) || key.threshold() != threshold) {
+                        continue;
+                    }
+                    int distance = Long.bitCount(key.hash() ^ hash);
+                    if (distance <= maxDistance && distance < bestDistance) {
+                        best = candidate.getValue();
+                        bestDistance = distance;
+                    }
+                }
+                if (best != null) {
+                    // Refresh LRU position of the matched entry
+                    entries.get(best.key());
+                }
+            }
+        }
+
+        if (best == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return best.response();
+    }
+
+    /**
+     * Stores a Face API response unless the gallery changed since {@code generationAtLookup}.
+     */
+    public void put(String model, double threshold, long hash, Map<String, Object> response, long generationAtLookup) {
+        if (!enabled || response == null) {
+            return;
+        }
+
+        Key key = new Key(model, threshold, hash);
+        Entry entry = new Entry(key, Collections.unmodifiableMap(new LinkedHashMap<>(response)),
+            System.currentTimeMillis() + ttlMillis);
+
+        synchronized (this) {
+            if (generationAtLookup != generation) {
+                return;
+            }
+            entries.put(key, entry);
+            Iterator<Key> eldest = entries.keySet().iterator();
+            while (entries.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Clears all entries after the face gallery changed.
+     *
+     * @param reason Reason for logging
+     */
+    public void invalidateAll(String reason) {
+        int cleared;
+        synchronized (this) {
+            generation++;
+            cleared = entries.size();
+            entries.clear();
+        }
+        if (cleared > 0) {
+            logger.info("Cleared {} cached recognition results: {}", cleared, reason);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Key(String model, double threshold, long hash) {
+    }
+
+    private record Entry(Key key, Map<String, Object> response, long expiresAt) {
+    }
+}
@@ -2,17 +2,28 @@ package com.company.appearance.service.face;
 
 import com.company.appearance.client.FaceApiClient;
 import com.company.appearance.config.face.FaceApiProperties;
+import com.company.appearance.dto.face.FaceBatchRecognizeItem;
+import com.company.appearance.dto.face.FaceBatchRecognizeResponse;
+import com.company.appearance.dto.face.FaceBoxDto;
 import com.company.appearance.dto.face.FaceRecognizeResponse;
 import com.company.appearance.model.face.FaceBox;
+import com.company.appearance.model.face.FaceDetectionResult;
 import com.company.appearance.model.face.FaceModel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Service for face recognition operations.
@@ -22,19 +33,22 @@ public class FaceRecognitionService {
 
     private static final Logger logger = LoggerFactory.getLogger(FaceRecognitionService.class);
 
-    private final FaceDetectionService detectionService;
-    private final FaceCropService cropService;
+    private final FaceExtractionService extractionService;
     private final FaceApiClient apiClient;
     private final FaceApiProperties apiProperties;
+    private final FaceRecognitionCache recognitionCache;
+    private final ExecutorService faceApiExecutor;
 
-    public FaceRecognitionService(FaceDetectionService detectionService,
-                                   FaceCropService cropService,
+    public FaceRecognitionService(FaceExtractionService extractionService,
                                    FaceApiClient apiClient,
-                                   FaceApiProperties apiProperties) {
-        this.detectionService = detectionService;
-        this.cropService = cropService;
+                                   FaceApiProperties apiProperties,
+                                   FaceRecognitionCache recognitionCache,
+                                   @Qualifier("faceApiExecutor") ExecutorService faceApiExecutor) {
+        this.extractionService = extractionService;
         this.apiClient = apiClient;
         this.apiProperties = apiProperties;
+        this.recognitionCache = recognitionCache;
+        this.faceApiExecutor = faceApiExecutor;
     }
 
     /**
@@ -45,7 +59,6 @@ public class FaceRecognitionService {
      * @param threshold Recognition threshold (optional)
      * @return Recognition response
      */
-    @SuppressWarnings("unchecked")
     public FaceRecognizeResponse recognizePerson(MultipartFile image, String model, Double threshold) {
         // Normalize and validate model parameter
         String normalizedModel = FaceModel.normalizeAndValidate(model, apiProperties.getDefaultModel());
@@ -57,12 +70,138 @@ public class FaceRecognitionService {
 
         logger.info("Recognizing person with model '{}', threshold {}", normalizedModel, threshold);
 
-        // Detect and crop face
-        FaceBox faceBox = detectionService.detectBestFace(image);
-        byte[] croppedFace = cropService.cropFace(image, faceBox);
+        // Detect and crop face (single decode)
+        FaceDetectionResult detection = extractionService.extract(image);
+
+        return recognizeCrop(detection, normalizedModel, threshold, true);
+    }
+
+    /**
+     * Recognizes several images in one request.
+     * All images are detected in parallel on the detection executor, then the crops
+     * are sent to the Face API in micro-batches of concurrent calls. A failure in one
+     * image is reported on its item and does not fail the others.
+     *
+     * @param images Full-body images
+     * @param model Model type (will be normalized and validated)
+     * @param threshold Recognition threshold (optional)
+     * @return Per-image results in input order
+     */
+    public FaceBatchRecognizeResponse recognizeBatch(List<MultipartFile> images, String model, Double threshold) {
+        String normalizedModel = FaceModel.normalizeAndValidate(model, apiProperties.getDefaultModel());
+        double effectiveThreshold = threshold != null ? threshold : apiProperties.getDefaultThreshold();
+        int batchSize = Math.max(1, apiProperties.getBatchSize());
+
+        logger.info("Recognizing batch of {} images with model '{}', threshold {}, micro-batch size {}",
+            images.size(), normalizedModel, effectiveThreshold, batchSize);
+
+        // Detect all images in parallel
+        List<CompletableFuture<FaceDetectionResult>> detections = new ArrayList<>(images.size());
+        for (MultipartFile image : images) {
+            detections.add(extractionService.extractAsync(image));
+        }
+
+        FaceBatchRecognizeItem[] items = new FaceBatchRecognizeItem[images.size()];
+        FaceDetectionResult[] crops = new FaceDetectionResult[images.size()];
+        List<Integer> detected = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            try {
+                crops[i] = detections.get(i).join();
+                detected.add(i);
+            } catch (CompletionException e) {
+                items[i] = FaceBatchRecognizeItem.failure(i, images.get(i).getOriginalFilename(), unwrap(e));
+            }
+        }
+
+        String[] filenames = images.stream().map(MultipartFile::getOriginalFilename).toArray(String[]::new);
+        recognizeInMicroBatches(detected, crops, filenames, items, normalizedModel, effectiveThreshold);
+
+        FaceBatchRecognizeResponse response = new FaceBatchRecognizeResponse(Arrays.asList(items));
+        logger.info("Batch recognition finished: {} succeeded, {} failed", response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * Recognizes every face in one image.
+     * Each detected face is cropped and recognized separately, so a group photo
+     * yields one identity per bounding box.
+     *
+     * @param image Image that may contain several faces
+     * @param model Model type (will be normalized and validated)
+     * @param threshold Recognition threshold (optional)
+     * @return One item per detected face, largest face first
+     */
+    public FaceBatchRecognizeResponse recognizeAllFaces(MultipartFile image, String model, Double threshold) {
+        String normalizedModel = FaceModel.normalizeAndValidate(model, apiProperties.getDefaultModel());
+        double effectiveThreshold = threshold != null ? threshold : apiProperties.getDefaultThreshold();
+
+        List<FaceDetectionResult> faces = extractionService.extractAllFaces(image);
+        logger.info("Recognizing {} faces with model '{}', threshold {}", faces.size(), normalizedModel, effectiveThreshold);
 
-        // Call Face API for recognition (with normalized model)
-        Map<String, Object> apiResponse = apiClient.recognizeFace(croppedFace, normalizedModel, threshold);
+        FaceDetectionResult[] crops = faces.toArray(new FaceDetectionResult[0]);
+        String[] filenames = new String[crops.length];
+        Arrays.fill(filenames, image.getOriginalFilename());
+        List<Integer> indices = new ArrayList<>(crops.length);
+        for (int i = 0; i < crops.length; i++) {
+            indices.add(i);
+        }
+
+        FaceBatchRecognizeItem[] items = new FaceBatchRecognizeItem[crops.length];
+        recognizeInMicroBatches(indices, crops, filenames, items, normalizedModel, effectiveThreshold);
+
+        FaceBatchRecognizeResponse response = new FaceBatchRecognizeResponse(Arrays.asList(items));
+        logger.info("Multi-face recognition finished: {} succeeded, {} failed", response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * Sends the given crops to the Face API in micro-batches of concurrent calls
+     * and stores a success or failure item for each index.
+     * The crops are different faces (or images), so the cache is only used for
+     * exact hash matches; a near match could report one person as another.
+     */
+    private void recognizeInMicroBatches(List<Integer> indices, FaceDetectionResult[] crops, String[] filenames,
+                                         FaceBatchRecognizeItem[] items, String normalizedModel, double threshold) {
+        int batchSize = Math.max(1, apiProperties.getBatchSize());
+        for (int start = 0; start < indices.size(); start += batchSize) {
+            List<Integer> batch = indices.subList(start, Math.min(start + batchSize, indices.size()));
+            Map<Integer, CompletableFuture<FaceRecognizeResponse>> calls = new LinkedHashMap<>();
+            for (int index : batch) {
+                FaceDetectionResult crop = crops[index];
+                calls.put(index, CompletableFuture.supplyAsync(
+                    () -> recognizeCrop(crop, normalizedModel, threshold, false), faceApiExecutor));
+            }
+            for (Map.Entry<Integer, CompletableFuture<FaceRecognizeResponse>> call : calls.entrySet()) {
+                int index = call.getKey();
+                try {
+                    items[index] = FaceBatchRecognizeItem.success(index, filenames[index], call.getValue().join());
+                } catch (CompletionException e) {
+                    items[index] = FaceBatchRecognizeItem.failure(index, filenames[index], unwrap(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Recognizes an already cropped face, using the recognition cache.
+     *
+     * @param nearMatch whether a cached result of a near-identical crop may be reused
+     */
+    @SuppressWarnings("unchecked")
+    private FaceRecognizeResponse recognizeCrop(FaceDetectionResult detection, String normalizedModel, Double threshold,
+                                                boolean nearMatch) {
+        byte[] croppedFace = detection.getCroppedImage();
+
+        // Reuse the result of a near-identical recent frame, otherwise call Face API
+        long hash = detection.getPerceptualHash();
+        Map<String, Object> apiResponse = recognitionCache.get(normalizedModel, threshold, hash, nearMatch);
+        if (apiResponse != null) {
+            logger.debug("Recognition cache hit for crop hash {}", Long.toHexString(hash));
+        } else {
+            long generation = recognitionCache.generation();
+            apiResponse = apiClient.recognizeFace(croppedFace, normalizedModel, threshold);
+            recognitionCache.put(normalizedModel, threshold, hash, apiResponse, generation);
+        }
 
         // Map response
         FaceRecognizeResponse response = new FaceRecognizeResponse();
@@ -82,9 +221,17 @@ public class FaceRecognitionService {
         }
         response.setDetails(apiResponse);
 
+        FaceBox faceBox = detection.getFaceBox();
+        response.setBoundingBox(new FaceBoxDto(
+            faceBox.getX(), faceBox.getY(), faceBox.getWidth(), faceBox.getHeight(), faceBox.getConfidence()));
+
         logger.info("Recognition result: {} (confidence: {})", 
             response.getRecognizedName(), response.getConfidence());
 
         return response;
     }
+
+    private static Throwable unwrap(CompletionException e) {
+        return e.getCause() != null ? e.getCause() : e;
+    }
 }
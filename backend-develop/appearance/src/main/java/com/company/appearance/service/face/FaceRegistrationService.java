@@ -4,7 +4,8 @@ import com.company.appearance.client.FaceApiClient;
 import com.company.appearance.config.face.FaceApiProperties;
 import com.company.appearance.dto.face.ExternalFaceApiRegisterResponse;
 import com.company.appearance.dto.face.FaceRegisterResponse;
-import com.company.appearance.model.face.FaceBox;
+import com.company.appearance.model.face.FaceAngle;
+import com.company.appearance.model.face.FaceImageContext;
 import com.company.appearance.model.face.FaceModel;
 
 import org.slf4j.Logger;
@@ -12,8 +13,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for face registration operations.
@@ -23,20 +25,22 @@ public class FaceRegistrationService {
 
     private static final Logger logger = LoggerFactory.getLogger(FaceRegistrationService.class);
 
-    private final FaceDetectionService detectionService;
-    private final FaceCropService cropService;
+    private final FaceExtractionService extractionService;
     private final FaceApiClient apiClient;
     private final FaceApiProperties apiProperties;
+    private final FaceRecognitionCache recognitionCache;
 
-    public FaceRegistrationService(FaceDetectionService detectionService,
-                                   FaceCropService cropService,
+    public FaceRegistrationService(FaceExtractionService extractionService,
                                    FaceApiClient apiClient,
-                                   FaceApiProperties apiProperties) {
-        this.detectionService = detectionService;
-        this.cropService = cropService;
+                                   FaceApiProperties apiProperties,
+                                   FaceRecognitionCache recognitionCache) {
+        this.extractionService = extractionService;
         this.apiClient = apiClient;
         this.apiProperties = apiProperties;
-    }    /**
+        this.recognitionCache = recognitionCache;
+    }
+
+    /**
      * Registers a person with 5 face angles.
      *
      * @param name Person name
@@ -57,6 +61,33 @@ public class FaceRegistrationService {
                                                  MultipartFile downImage,
                                                  String model,
                                                  Integer minQuality) {
+        // Detect and crop all 5 angles
+        FaceImageContext faces;
+        try {
+            faces = prepareFaces(frontImage, leftImage, rightImage, upImage, downImage);
+        } catch (IllegalArgumentException e) {
+            // Re-throw with clearer context
+            throw new IllegalArgumentException(
+                "Face registration failed: " + e.getMessage() + 
+                ". All 5 images must contain clearly visible faces.", e);
+        }
+
+        return registerPerson(name, faces, model, minQuality);
+    }
+
+    /**
+     * Registers a person from faces that were already detected and cropped.
+     *
+     * @param name Person name
+     * @param faces Cropped faces of all 5 angles
+     * @param model Model type (will be normalized and validated)
+     * @param minQuality Minimum quality (optional)
+     * @return Registration response
+     */
+    public FaceRegisterResponse registerPerson(String name,
+                                                 FaceImageContext faces,
+                                                 String model,
+                                                 Integer minQuality) {
         // Normalize and validate model parameter
         String normalizedModel = FaceModel.normalizeAndValidate(model, apiProperties.getDefaultModel());
         
@@ -67,24 +98,16 @@ public class FaceRegistrationService {
 
         logger.info("Registering person '{}' with model '{}', minQuality {}", name, normalizedModel, minQuality);
 
-        // Detect and crop all 5 angles
-        List<byte[]> croppedFaces = new ArrayList<>();
-        
-        try {
-            croppedFaces.add(detectAndCropFace(frontImage, "front"));
-            croppedFaces.add(detectAndCropFace(leftImage, "left"));
-            croppedFaces.add(detectAndCropFace(rightImage, "right"));
-            croppedFaces.add(detectAndCropFace(upImage, "up"));
-            croppedFaces.add(detectAndCropFace(downImage, "down"));
-        } catch (IllegalArgumentException e) {
-            // Re-throw with clearer context
-            throw new IllegalArgumentException(
-                "Face registration failed: " + e.getMessage() + 
-                ". All 5 images must contain clearly visible faces.", e);
-        }
+        List<byte[]> croppedFaces = faces.getCroppedFaces();
 
         // Call Face API to register (with normalized model)
-        ExternalFaceApiRegisterResponse apiResponse = apiClient.registerFaces(name, croppedFaces, normalizedModel, minQuality);
+        ExternalFaceApiRegisterResponse apiResponse;
+        try {
+            apiResponse = apiClient.registerFaces(name, croppedFaces, normalizedModel, minQuality);
+        } finally {
+            // Even a failed call may have changed the gallery
+            recognitionCache.invalidateAll("registered person '" + name + "'");
+        }
 
         // Map response
         FaceRegisterResponse response = FaceRegisterResponse.fromExternal(apiResponse);
@@ -95,11 +118,21 @@ public class FaceRegistrationService {
     }
 
     /**
-     * Detects and crops a face from an image.
+     * Decodes, detects and crops all 5 angles once.
+     *
+     * @throws IllegalArgumentException if any image does not contain a detectable face
      */
-    private byte[] detectAndCropFace(MultipartFile image, String angleName) {
-        logger.debug("Processing {} angle image", angleName);
-        FaceBox faceBox = detectionService.detectBestFace(image);
-        return cropService.cropFace(image, faceBox);
+    public FaceImageContext prepareFaces(MultipartFile front,
+                                         MultipartFile left,
+                                         MultipartFile right,
+                                         MultipartFile up,
+                                         MultipartFile down) {
+        Map<FaceAngle, MultipartFile> images = new EnumMap<>(FaceAngle.class);
+        images.put(FaceAngle.FRONT, front);
+        images.put(FaceAngle.LEFT, left);
+        images.put(FaceAngle.RIGHT, right);
+        images.put(FaceAngle.UP, up);
+        images.put(FaceAngle.DOWN, down);
+        return extractionService.extractAll(images);
     }
 }
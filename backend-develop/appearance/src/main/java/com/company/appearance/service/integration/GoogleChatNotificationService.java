@@ -5,22 +5,32 @@ import com.company.appearance.dto.integration.AppearanceEvaluationSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Service for sending appearance evaluation notifications to Google Chat.
  * Uses Google Chat incoming webhooks for simple message posting.
+ * Delivery and retries are driven by the integration outbox. In digest mode the
+ * outbox collects evaluations for a window and posts them as one summary.
  */
 @Service
 public class GoogleChatNotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleChatNotificationService.class);
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String NO_DEPARTMENT = "(no department)";
+    private static final int TOP_VIOLATIONS = 3;
+    private static final int MAX_FAILING_LISTED = 20;
 
     private final GoogleChatProperties properties;
     private final RestClient restClient;
@@ -31,12 +41,14 @@ public class GoogleChatNotificationService {
     }
 
     /**
-     * Sends evaluation notification to Google Chat (async, best-effort).
-     * 
+     * Sends evaluation notification to Google Chat.
+     * Called by the outbox dispatcher; returns normally when the notification
+     * is skipped by configuration so the outbox row is completed.
+     *
      * @param snapshot Immutable evaluation snapshot
+     * @throws org.springframework.web.client.RestClientException if the webhook call fails (retried by the outbox)
      */
-    @Async
-    public void notify(AppearanceEvaluationSnapshot snapshot) {
+    public void send(AppearanceEvaluationSnapshot snapshot) {
         if (!properties.isEnabled()) {
             logger.debug("Google Chat notifications disabled, skipping");
             return;
@@ -54,14 +66,121 @@ public class GoogleChatNotificationService {
             return;
         }
 
-        try {
-            String message = buildMessage(snapshot);
-            sendToChat(message);
-            logger.info("Successfully sent Google Chat notification for evaluation ID: {}", snapshot.getEvaluationId());
-        } catch (Exception e) {
-            // Best-effort: log error but don't throw (avoid breaking evaluation creation)
-            logger.error("Failed to send Google Chat notification for evaluation ID: {}, employee ID: {}. Error: {}", 
-                    snapshot.getEvaluationId(), snapshot.getEmployeeId(), e.getMessage(), e);
+        String message = buildMessage(snapshot);
+        sendToChat(message);
+        logger.info("Successfully sent Google Chat notification for evaluation ID: {}", snapshot.getEvaluationId());
+    }
+
+    /**
+     * Sends one digest message for a window of evaluations.
+     * Returns normally when the digest is skipped by configuration.
+     *
+     * The digest is a plain text message on purpose, like the per-evaluation
+     * message: it goes through the same simple text webhook payload, and a card
+     * would add no information while the department sections already fit in one
+     * message up to digestMaxSize evaluations.
+     *
+     * @param snapshots Immutable evaluation snapshots of the window
+     * @throws org.springframework.web.client.RestClientException if the webhook call fails (retried by the outbox)
+     */
+    public void sendDigest(List<AppearanceEvaluationSnapshot> snapshots) {
+        if (snapshots.isEmpty() || !properties.isEnabled()) {
+            return;
+        }
+
+        if (properties.getWebhookUrl() == null || properties.getWebhookUrl().isBlank()) {
+            logger.warn("Google Chat webhook URL not configured, skipping digest");
+            return;
+        }
+
+        if (properties.isOnlyOnFail() && snapshots.stream().allMatch(AppearanceEvaluationSnapshot::isPassed)) {
+            logger.debug("All {} evaluations passed and only-on-fail is enabled, skipping digest", snapshots.size());
+            return;
+        }
+
+        sendToChat(buildDigestMessage(snapshots));
+        logger.info("Successfully sent Google Chat digest for {} evaluations", snapshots.size());
+    }
+
+    /**
+     * Builds the digest message: overall pass/fail counts, then per department
+     * (alphabetical) the counts, the most frequent violations and the failing employees.
+     */
+    String buildDigestMessage(List<AppearanceEvaluationSnapshot> snapshots) {
+        Map<String, List<AppearanceEvaluationSnapshot>> byDepartment = new TreeMap<>();
+        LocalDateTime first = null;
+        LocalDateTime last = null;
+        int failed = 0;
+        for (AppearanceEvaluationSnapshot snapshot : snapshots) {
+            String department = snapshot.getDepartment() == null || snapshot.getDepartment().isBlank()
+                    ? NO_DEPARTMENT : snapshot.getDepartment();
+            byDepartment.computeIfAbsent(department, key -> new ArrayList<>()).add(snapshot);
+            if (!snapshot.isPassed()) {
+                failed++;
+            }
+            LocalDateTime evaluatedAt = snapshot.getEvaluatedAt();
+            if (evaluatedAt != null) {
+                first = first == null || evaluatedAt.isBefore(first) ? evaluatedAt : first;
+                last = last == null || evaluatedAt.isAfter(last) ? evaluatedAt : last;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("*Appearance Evaluation Digest*\n\n");
+        if (first != null) {
+            sb.append("*Period:* ").append(first.format(FORMATTER))
+                    .append(" - ").append(last.format(FORMATTER)).append("\n");
+        }
+        sb.append("*Evaluations:* ").append(snapshots.size())
+                .append(" (✅ ").append(snapshots.size() - failed)
+                .append(" passed, ❌ ").append(failed).append(" failed)\n");
+
+        for (Map.Entry<String, List<AppearanceEvaluationSnapshot>> entry : byDepartment.entrySet()) {
+            appendDepartment(sb, entry.getKey(), entry.getValue());
+        }
+        return sb.toString();
+    }
+
+    private void appendDepartment(StringBuilder sb, String department, List<AppearanceEvaluationSnapshot> snapshots) {
+        List<AppearanceEvaluationSnapshot> failing = new ArrayList<>();
+        Map<String, Integer> violationCounts = new HashMap<>();
+        for (AppearanceEvaluationSnapshot snapshot : snapshots) {
+            if (!snapshot.isPassed()) {
+                failing.add(snapshot);
+            }
+            for (String violation : snapshot.getViolations()) {
+                violationCounts.merge(violation, 1, Integer::sum);
+            }
+        }
+
+        sb.append("\n*").append(department).append(":* ")
+                .append(snapshots.size() - failing.size()).append(" passed, ")
+                .append(failing.size()).append(" failed\n");
+
+        if (!violationCounts.isEmpty()) {
+            List<Map.Entry<String, Integer>> top = new ArrayList<>(violationCounts.entrySet());
+            top.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            sb.append("Top violations: ");
+            for (int i = 0; i < Math.min(TOP_VIOLATIONS, top.size()); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(top.get(i).getKey()).append(" (").append(top.get(i).getValue()).append(")");
+            }
+            sb.append("\n");
+        }
+
+        failing.sort(Comparator.comparing(AppearanceEvaluationSnapshot::getEmployeeName,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        for (int i = 0; i < Math.min(MAX_FAILING_LISTED, failing.size()); i++) {
+            AppearanceEvaluationSnapshot snapshot = failing.get(i);
+            sb.append("• ").append(snapshot.getEmployeeName())
+                    .append(" (").append(snapshot.getEmployeeId()).append(") - score ")
+                    .append(snapshot.getScore()).append("\n");
+        }
+        if (failing.size() > MAX_FAILING_LISTED) {
+            sb.append("• ... and ").append(failing.size() - MAX_FAILING_LISTED).append(" more\n");
         }
     }
 
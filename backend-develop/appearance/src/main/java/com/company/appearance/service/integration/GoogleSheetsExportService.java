@@ -14,7 +14,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
@@ -29,6 +28,10 @@ import java.util.*;
 /**
  * Service for exporting appearance evaluation results to Google Sheets.
  * Uses Google Sheets API v4 with service account authentication.
+ *
+ * Rows are written by the outbox dispatcher with one multi-row values.append
+ * per claimed batch, in outbox order. Sheet and header existence are checked
+ * once and cached until an append fails.
  */
 @Service
 public class GoogleSheetsExportService {
@@ -46,7 +49,9 @@ public class GoogleSheetsExportService {
 
     private final GoogleSheetsProperties properties;
     private Sheets sheetsService;
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
+    /** Tab and header verified; only touched inside appendBatch(). */
+    private boolean sheetReady = false;
 
     public GoogleSheetsExportService(GoogleSheetsProperties properties) {
         this.properties = properties;
@@ -133,33 +138,55 @@ public class GoogleSheetsExportService {
     }
 
     /**
-     * Appends evaluation snapshot to Google Sheet (async, best-effort).
-     * 
-     * @param snapshot Immutable evaluation snapshot
+     * Appends evaluation snapshots as rows in a single request.
+     * Called by the outbox dispatcher; returns normally when the export is
+     * disabled or not configured so the outbox rows are completed.
+     *
+     * @param snapshots Immutable evaluation snapshots, in the order to append
+     * @throws IOException if the Sheets API call fails (retried by the outbox)
      */
-    @Async
-    public void append(AppearanceEvaluationSnapshot snapshot) {
+    public synchronized void appendBatch(List<AppearanceEvaluationSnapshot> snapshots) throws IOException {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
         if (!properties.isEnabled()) {
             logger.debug("Google Sheets export disabled, skipping");
             return;
         }
 
         if (!initialized) {
-            logger.warn("Google Sheets service not initialized, skipping export for evaluation ID: {}", 
-                    snapshot.getEvaluationId());
+            logger.warn("Google Sheets service not initialized, skipping export of {} evaluations",
+                    snapshots.size());
             return;
         }
 
+        List<List<Object>> rows = new ArrayList<>(snapshots.size());
+        for (AppearanceEvaluationSnapshot snapshot : snapshots) {
+            rows.add(buildRow(snapshot));
+        }
+
         try {
-            ensureSheetExists();
-            ensureHeaderExists();
-            appendRow(snapshot);
-            logger.info("Successfully appended evaluation ID: {} to Google Sheet", snapshot.getEvaluationId());
-        } catch (Exception e) {
-            // Best-effort: log error but don't throw
-            logger.error("Failed to append evaluation ID: {} to Google Sheet. Error: {}", 
-                    snapshot.getEvaluationId(), e.getMessage(), e);
+            ensureSheetReady();
+            appendRows(rows);
+        } catch (IOException | RuntimeException e) {
+            // Sheet may have been deleted or renamed; check again next time
+            sheetReady = false;
+            throw e;
+        }
+        logger.info("Appended {} evaluations to Google Sheet", rows.size());
+    }
+
+    /**
+     * Checks the tab and header once; later batches skip both round trips.
+     */
+    private void ensureSheetReady() throws IOException {
+        if (sheetReady) {
+            return;
         }
+        ensureSheetExists();
+        ensureHeaderExists();
+        sheetReady = true;
     }
 
     /**
@@ -168,6 +195,7 @@ public class GoogleSheetsExportService {
     private void ensureSheetExists() throws IOException {
         Spreadsheet spreadsheet = sheetsService.spreadsheets()
                 .get(properties.getSpreadsheetId())
+                .setFields("sheets.properties.title")
                 .execute();
 
         boolean sheetExists = spreadsheet.getSheets().stream()
@@ -228,12 +256,11 @@ public class GoogleSheetsExportService {
     }
 
     /**
-     * Appends evaluation data as a new row.
+     * Appends rows in a single values.append request.
      */
-    private void appendRow(AppearanceEvaluationSnapshot snapshot) throws IOException {
-        List<Object> row = buildRow(snapshot);
+    private void appendRows(List<List<Object>> rows) throws IOException {
         ValueRange body = new ValueRange()
-                .setValues(Collections.singletonList(row));
+                .setValues(rows);
 
         sheetsService.spreadsheets().values()
                 .append(properties.getSpreadsheetId(), 
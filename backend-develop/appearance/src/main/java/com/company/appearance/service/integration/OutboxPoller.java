@@ -0,0 +1,89 @@
+package com.company.appearance.service.integration;
+
+import com.company.appearance.model.OutboxChannel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Polls the integration outbox and drains each channel on its own executor.
+ * At most one drain per channel runs in this instance; other instances claim
+ * different rows because the claim query skips locked rows and leases the
+ * rows it claims until their outcome is recorded.
+ */
+@Component
+public class OutboxPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxPoller.class);
+
+    private final OutboxService outboxService;
+    private final Map<OutboxChannel, Executor> executors = new EnumMap<>(OutboxChannel.class);
+    private final Map<OutboxChannel, AtomicBoolean> draining = new EnumMap<>(OutboxChannel.class);
+
+    public OutboxPoller(OutboxService outboxService,
+            @Qualifier("googleChatExecutor") Executor googleChatExecutor,
+            @Qualifier("googleSheetsExecutor") Executor googleSheetsExecutor) {
+        this.outboxService = outboxService;
+        executors.put(OutboxChannel.GOOGLE_CHAT, googleChatExecutor);
+        executors.put(OutboxChannel.GOOGLE_SHEETS, googleSheetsExecutor);
+        for (OutboxChannel channel : OutboxChannel.values()) {
+            draining.put(channel, new AtomicBoolean());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:2000}")
+    public void pollGoogleChat() {
+        submit(OutboxChannel.GOOGLE_CHAT);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:2000}")
+    public void pollGoogleSheets() {
+        submit(OutboxChannel.GOOGLE_SHEETS);
+    }
+
+    /**
+     * Removes delivered rows past the retention period once a day.
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        int deleted = outboxService.purgeSent();
+        if (deleted > 0) {
+            logger.info("Purged {} delivered outbox rows", deleted);
+        }
+    }
+
+    private void submit(OutboxChannel channel) {
+        if (draining.get(channel).get()) {
+            return;
+        }
+        // A task dropped by a full executor is simply retried on the next poll
+        executors.get(channel).execute(() -> drain(channel));
+    }
+
+    /**
+     * Dispatches batches until the channel has no more due rows or a delivery fails.
+     */
+    private void drain(OutboxChannel channel) {
+        AtomicBoolean flag = draining.get(channel);
+        if (!flag.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (outboxService.dispatch(channel)) {
+                // Next batch
+            }
+        } catch (RuntimeException e) {
+            logger.error("Outbox dispatch for {} failed: {}", channel, e.getMessage(), e);
+        } finally {
+            flag.set(false);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.company.appearance.service.integration;
+
+import com.company.appearance.config.OutboxProperties;
+import com.company.appearance.config.google.GoogleChatProperties;
+import com.company.appearance.config.google.GoogleSheetsProperties;
+import com.company.appearance.dto.integration.AppearanceEvaluationSnapshot;
+import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.OutboxChannel;
+import com.company.appearance.model.OutboxEvent;
+import com.company.appearance.model.OutboxStatus;
+import com.company.appearance.repository.AppearanceEvaluationRepository;
+import com.company.appearance.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Transactional outbox for the Google Chat and Google Sheets side effects of an evaluation.
+ *
+ * enqueue() runs inside the transaction that saves the evaluations, so the side
+ * effects are committed (or rolled back) together with them. dispatch() claims and
+ * leases due rows of one channel, delivers them outside any transaction and
+ * records the outcome; a failed row is retried with exponential backoff and
+ * dead-lettered after maxAttempts. Channels
+ * have separate rows, so a Sheets outage does not hold back Chat notifications.
+ *
+ * In Google Chat digest mode, Chat rows are left pending until the oldest one is
+ * digestWindowSeconds old or digestMaxSize rows are due, and are then posted as
+ * one digest.
+ */
+@Service
+public class OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxService.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final AppearanceEvaluationRepository appearanceEvaluationRepository;
+    private final GoogleChatNotificationService googleChatNotificationService;
+    private final GoogleSheetsExportService googleSheetsExportService;
+    private final GoogleChatProperties googleChatProperties;
+    private final GoogleSheetsProperties googleSheetsProperties;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+            AppearanceEvaluationRepository appearanceEvaluationRepository,
+            GoogleChatNotificationService googleChatNotificationService,
+            GoogleSheetsExportService googleSheetsExportService,
+            GoogleChatProperties googleChatProperties,
+            GoogleSheetsProperties googleSheetsProperties,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.appearanceEvaluationRepository = appearanceEvaluationRepository;
+        this.googleChatNotificationService = googleChatNotificationService;
+        this.googleSheetsExportService = googleSheetsExportService;
+        this.googleChatProperties = googleChatProperties;
+        this.googleSheetsProperties = googleSheetsProperties;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Adds one outbox row per enabled channel for each saved evaluation.
+     * Must be called inside the transaction that saves the evaluations.
+     *
+     * @param evaluations       saved evaluations
+     * @param evaluatorUsername username of the evaluator (nullable)
+     */
+    public void enqueue(List<AppearanceEvaluation> evaluations, String evaluatorUsername) {
+        if (evaluations.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(evaluations.size() * OutboxChannel.values().length);
+        for (OutboxChannel channel : OutboxChannel.values()) {
+            if (!isEnabled(channel)) {
+                continue;
+            }
+            for (AppearanceEvaluation evaluation : evaluations) {
+                events.add(new OutboxEvent(channel, evaluation.getId(), evaluatorUsername, now));
+            }
+        }
+        // Sequence ids, so the rows are inserted as JDBC batches with the evaluations
+        outboxEventRepository.saveAll(events);
+    }
+
+    /**
+     * Claims and delivers one batch of due rows of a channel.
+     * Rows claimed by another dispatcher are skipped, not waited for.
+     *
+     * The claim and the outcome are two short transactions; delivery runs
+     * between them without a transaction, so no row lock or connection is held
+     * during the remote calls. The lease taken by the claim keeps other
+     * dispatchers off the rows meanwhile.
+     *
+     * @param channel channel to deliver
+     * @return true if a full batch was delivered and more rows may be due
+     */
+    public boolean dispatch(OutboxChannel channel) {
+        boolean digest = channel == OutboxChannel.GOOGLE_CHAT && googleChatProperties.isDigestEnabled();
+        int batchSize = Math.max(1, digest ? googleChatProperties.getDigestMaxSize() : properties.getBatchSize());
+        Claim claim = transactionTemplate.execute(status -> claim(channel, digest, batchSize));
+        if (claim == null || claim.claimed() == 0) {
+            return false;
+        }
+        if (claim.events().isEmpty()) {
+            // Every claimed row was dead-lettered in the claim transaction
+            return claim.claimed() == batchSize;
+        }
+
+        boolean completed = switch (channel) {
+            case GOOGLE_CHAT -> digest
+                    ? deliverChatDigest(claim.events(), claim.snapshots())
+                    : deliverChat(claim.events(), claim.snapshots());
+            case GOOGLE_SHEETS -> deliverSheets(claim.events(), claim.snapshots());
+        };
+        transactionTemplate.executeWithoutResult(status -> record(claim.events()));
+        return completed && claim.claimed() == batchSize;
+    }
+
+    /**
+     * Deletes SENT rows older than retentionDays.
+     *
+     * @return number of deleted rows
+     */
+    public int purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        return outboxEventRepository.deleteProcessedBefore(OutboxStatus.SENT, before);
+    }
+
+    /**
+     * Locks due rows with SKIP LOCKED, leases the deliverable ones and builds
+     * their snapshots while the evaluations are still attached. Rows of deleted
+     * evaluations are dead-lettered here.
+     */
+    private Claim claim(OutboxChannel channel, boolean digest, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findDueForUpdate(
+                channel, OutboxStatus.PENDING, now, Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return Claim.NONE;
+        }
+        if (digest && events.size() < batchSize && !isDigestWindowClosed(events, now)) {
+            // Keep collecting; the rows stay pending until the window closes or the digest is full
+            return Claim.NONE;
+        }
+
+        List<Long> evaluationIds = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            evaluationIds.add(event.getEvaluationId());
+        }
+        Map<Long, AppearanceEvaluation> evaluations = new HashMap<>();
+        for (AppearanceEvaluation evaluation : appearanceEvaluationRepository.findByIdIn(evaluationIds)) {
+            evaluations.put(evaluation.getId(), evaluation);
+        }
+
+        LocalDateTime leaseUntil = now.plus(properties.getLeaseMs(), ChronoUnit.MILLIS);
+        List<OutboxEvent> deliverable = new ArrayList<>(events.size());
+        List<AppearanceEvaluationSnapshot> snapshots = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            AppearanceEvaluation evaluation = evaluations.get(event.getEvaluationId());
+            if (evaluation == null) {
+                // Deleted together with its employee; nothing left to deliver
+                event.markFailed("Evaluation no longer exists", null, now);
+                count(channel, "dead", 1);
+                continue;
+            }
+            event.lease(leaseUntil);
+            deliverable.add(event);
+            snapshots.add(AppearanceEvaluationSnapshot.of(evaluation, event.getEvaluatorUsername()));
+        }
+        return new Claim(deliverable, snapshots, events.size());
+    }
+
+    /**
+     * Writes the outcome of a delivery. The rows are still leased to this
+     * dispatcher, so the detached copies are merged as they are; loading them
+     * first in one query keeps merge() from selecting them one by one.
+     */
+    private void record(List<OutboxEvent> events) {
+        List<Long> ids = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            ids.add(event.getId());
+        }
+        outboxEventRepository.findAllById(ids);
+        outboxEventRepository.saveAll(events);
+    }
+
+    /**
+     * Sends one message per row and stops at the first failure, leaving the
+     * rest of the batch for the next poll instead of hammering the webhook.
+     */
+    private boolean deliverChat(List<OutboxEvent> events, List<AppearanceEvaluationSnapshot> snapshots) {
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                googleChatNotificationService.send(snapshots.get(i));
+                event.markSent(LocalDateTime.now());
+                count(OutboxChannel.GOOGLE_CHAT, "sent", 1);
+            } catch (RuntimeException e) {
+                LocalDateTime now = LocalDateTime.now();
+                fail(event, e, now);
+                // The rest were not attempted; due again on the next poll rather than after the lease
+                for (OutboxEvent rest : events.subList(i + 1, events.size())) {
+                    rest.release(now);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Posts the whole batch as one digest; a failure retries every row of it at the same time.
+     */
+    private boolean deliverChatDigest(List<OutboxEvent> events, List<AppearanceEvaluationSnapshot> snapshots) {
+        try {
+            googleChatNotificationService.sendDigest(snapshots);
+        } catch (RuntimeException e) {
+            failBatch(events, e, LocalDateTime.now());
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            event.markSent(now);
+        }
+        count(OutboxChannel.GOOGLE_CHAT, "sent", events.size());
+        return true;
+    }
+
+    /**
+     * The window starts at the oldest claimed row, which comes first (rows are claimed by id).
+     */
+    private boolean isDigestWindowClosed(List<OutboxEvent> events, LocalDateTime now) {
+        LocalDateTime windowEnd = events.get(0).getCreatedAt()
+                .plusSeconds(googleChatProperties.getDigestWindowSeconds());
+        return !now.isBefore(windowEnd);
+    }
+
+    /**
+     * Appends the whole batch with one request; a failure retries every row of it at the same time.
+     */
+    private boolean deliverSheets(List<OutboxEvent> events, List<AppearanceEvaluationSnapshot> snapshots) {
+        try {
+            googleSheetsExportService.appendBatch(snapshots);
+        } catch (Exception e) {
+            failBatch(events, e, LocalDateTime.now());
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            event.markSent(now);
+        }
+        count(OutboxChannel.GOOGLE_SHEETS, "sent", events.size());
+        return true;
+    }
+
+    private void fail(OutboxEvent event, Exception error, LocalDateTime now) {
+        fail(event, error, now, now.plus(backoffMillis(event.getAttempts() + 1), ChronoUnit.MILLIS));
+    }
+
+    /**
+     * Fails a batch that was delivered with one request. All rows get one retry
+     * time, backed off from the most retried row, so they are claimed and sent
+     * together again instead of coming back in fragments at separately jittered
+     * times.
+     */
+    private void failBatch(List<OutboxEvent> events, Exception error, LocalDateTime now) {
+        int attempt = 1;
+        for (OutboxEvent event : events) {
+            attempt = Math.max(attempt, event.getAttempts() + 1);
+        }
+        LocalDateTime nextAttemptAt = now.plus(backoffMillis(attempt), ChronoUnit.MILLIS);
+        for (OutboxEvent event : events) {
+            fail(event, error, now, nextAttemptAt);
+        }
+    }
+
+    private void fail(OutboxEvent event, Exception error, LocalDateTime now, LocalDateTime nextAttemptAt) {
+        int attempt = event.getAttempts() + 1;
+        if (attempt >= properties.getMaxAttempts()) {
+            event.markFailed(error.getMessage(), null, now);
+            count(event.getChannel(), "dead", 1);
+            logger.error("Giving up {} delivery of evaluation ID: {} after {} attempts. Error: {}",
+                    event.getChannel(), event.getEvaluationId(), attempt, error.getMessage(), error);
+            return;
+        }
+        event.markFailed(error.getMessage(), nextAttemptAt, now);
+        count(event.getChannel(), "retry", 1);
+        logger.warn("Failed {} delivery of evaluation ID: {} (attempt {}), retrying at {}. Error: {}",
+                event.getChannel(), event.getEvaluationId(), attempt, nextAttemptAt, error.getMessage());
+    }
+
+    /**
+     * Exponential backoff with jitter: a random delay between half and all of
+     * initialBackoffMs * 2^(attempt - 1), capped at maxBackoffMs.
+     */
+    long backoffMillis(int attempt) {
+        long cap = properties.getMaxBackoffMs();
+        long delay = properties.getInitialBackoffMs() << Math.min(attempt - 1, 30);
+        if (delay <= 0 || delay > cap) {
+            delay = cap;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private boolean isEnabled(OutboxChannel channel) {
+        return switch (channel) {
+            case GOOGLE_CHAT -> googleChatProperties.isEnabled();
+            case GOOGLE_SHEETS -> googleSheetsProperties.isEnabled();
+        };
+    }
+
+    private void count(OutboxChannel channel, String outcome, int amount) {
+        meterRegistry.counter("integration.outbox.events", "channel", channel.name(), "outcome", outcome)
+                .increment(amount);
+    }
+
+    /**
+     * Rows leased by one claim with their snapshots, plus the number of rows
+     * claimed including those dead-lettered during the claim.
+     */
+    private record Claim(List<OutboxEvent> events, List<AppearanceEvaluationSnapshot> snapshots, int claimed) {
+
+        static final Claim NONE = new Claim(List.of(), List.of(), 0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.company.appearance.util.face;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+
+/**
+ * Encodes OpenCV Mats into compressed image bytes.
+ * Implementations accept grayscale (1ch), BGR (3ch) and BGRA (4ch) Mats.
+ */
+public interface ImageEncoder {
+
+    /**
+     * Encodes a Mat as JPEG.
+     *
+     * @param mat Image to encode
+     * @param quality JPEG quality (0-100)
+     * @return JPEG bytes
+     */
+    byte[] encodeJpeg(Mat mat, int quality);
+
+    /**
+     * Encodes a Mat as PNG.
+     *
+     * @param mat Image to encode
+     * @return PNG bytes
+     */
+    byte[] encodePng(Mat mat);
+}
@@ -0,0 +1,105 @@
+package com.company.appearance.util.face;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.bytedeco.opencv.global.opencv_imgproc.COLOR_BGRA2BGR;
+import static org.bytedeco.opencv.global.opencv_imgproc.COLOR_GRAY2BGR;
+import static org.bytedeco.opencv.global.opencv_imgproc.cvtColor;
+
+/**
+ * Encoder backed by Java ImageIO.
+ *
+ * Slower than {@link OpenCvImageEncoder}, but independent of the native
+ * imencode bindings. Pixels are copied once, straight from the Mat into the
+ * BufferedImage raster, and JPEG quality is set explicitly instead of relying
+ * on the writer's default.
+ */
+public class ImageIoImageEncoder implements ImageEncoder {
+
+    @Override
+    public byte[] encodeJpeg(Mat mat, int quality) {
+        BufferedImage image = matToBufferedImage(mat);
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            throw new IllegalStateException("No ImageIO writer found for format: jpg");
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(baos)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality / 100f);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode Mat to JPG", e);
+        } finally {
+            writer.dispose();
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public byte[] encodePng(Mat mat) {
+        try {
+            BufferedImage image = matToBufferedImage(mat);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            if (!ImageIO.write(image, "png", baos)) {
+                throw new IllegalStateException("No ImageIO writer found for format: png");
+            }
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode Mat to PNG", e);
+        }
+    }
+
+    /**
+     * Converts an OpenCV Mat to BufferedImage.
+     * Supports grayscale (1ch), BGR (3ch) and BGRA (4ch).
+     */
+    private BufferedImage matToBufferedImage(Mat mat) {
+        if (mat == null || mat.empty()) {
+            throw new IllegalArgumentException("Mat is null or empty");
+        }
+
+        Mat bgr = mat;
+        int channels = mat.channels();
+
+        // Normalize to 3-channel BGR for consistent conversion
+        if (channels == 1) {
+            bgr = new Mat();
+            cvtColor(mat, bgr, COLOR_GRAY2BGR);
+        } else if (channels == 4) {
+            bgr = new Mat();
+            cvtColor(mat, bgr, COLOR_BGRA2BGR);
+        } else if (channels != 3) {
+            throw new IllegalArgumentException("Unsupported Mat channels: " + channels);
+        } else if (!mat.isContinuous()) {
+            // ROI views have row gaps; the raster copy below needs packed rows
+            bgr = mat.clone();
+        }
+
+        try {
+            BufferedImage image = new BufferedImage(bgr.cols(), bgr.rows(), BufferedImage.TYPE_3BYTE_BGR);
+            byte[] target = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+            bgr.data().get(target);
+            return image;
+        } finally {
+            if (bgr != mat) {
+                bgr.release();
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Utility class for creating multipart form data for HTTP requests.
@@ -18,6 +19,22 @@ import java.io.IOException;
 @Component
 public class MultipartUtil {
 
+    /**
+     * Creates a multipart body that streams JPEG images straight to the connection.
+     *
+     * @param paramName Parameter name for every image
+     * @param images JPEG bytes, written without copying
+     * @param filenamePrefix Filename prefix; parts are named prefix_0.jpg, prefix_1.jpg, ...
+     * @return Streaming multipart body
+     */
+    public StreamingMultipartBody createStreamingImageBody(String paramName, List<byte[]> images, String filenamePrefix) {
+        StreamingMultipartBody body = new StreamingMultipartBody();
+        for (int i = 0; i < images.size(); i++) {
+            body.addFile(paramName, filenamePrefix + "_" + i + ".jpg", MediaType.IMAGE_JPEG, images.get(i));
+        }
+        return body;
+    }
+
     /**
      * Creates a multipart body part from bytes with a filename.
      *
@@ -0,0 +1,48 @@
+package com.company.appearance.util.face;
+
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.IntPointer;
+import org.bytedeco.opencv.opencv_core.Mat;
+
+import static org.bytedeco.opencv.global.opencv_imgcodecs.IMWRITE_JPEG_QUALITY;
+import static org.bytedeco.opencv.global.opencv_imgcodecs.IMWRITE_PNG_COMPRESSION;
+import static org.bytedeco.opencv.global.opencv_imgcodecs.imencode;
+
+/**
+ * Encoder backed by OpenCV imencode.
+ * The Mat is read directly from native memory and libjpeg/libpng write into a
+ * native buffer, so the only Java-side copy is the final byte array.
+ */
+public class OpenCvImageEncoder implements ImageEncoder {
+
+    private static final int PNG_COMPRESSION = 3;
+
+    @Override
+    public byte[] encodeJpeg(Mat mat, int quality) {
+        try (IntPointer params = new IntPointer(IMWRITE_JPEG_QUALITY, quality)) {
+            return encode(mat, ".jpg", params);
+        }
+    }
+
+    @Override
+    public byte[] encodePng(Mat mat) {
+        try (IntPointer params = new IntPointer(IMWRITE_PNG_COMPRESSION, PNG_COMPRESSION)) {
+            return encode(mat, ".png", params);
+        }
+    }
+
+    private byte[] encode(Mat mat, String extension, IntPointer params) {
+        if (mat == null || mat.empty()) {
+            throw new IllegalArgumentException("Mat is null or empty");
+        }
+
+        try (BytePointer buffer = new BytePointer()) {
+            if (!imencode(extension, mat, buffer, params)) {
+                throw new IllegalStateException("OpenCV failed to encode Mat to " + extension);
+            }
+            byte[] bytes = new byte[(int) buffer.limit()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.company.appearance.util.face;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.bytedeco.opencv.opencv_core.Size;
+
+import static org.bytedeco.opencv.global.opencv_imgproc.COLOR_BGR2GRAY;
+import static org.bytedeco.opencv.global.opencv_imgproc.COLOR_BGRA2GRAY;
+import static org.bytedeco.opencv.global.opencv_imgproc.INTER_AREA;
+import static org.bytedeco.opencv.global.opencv_imgproc.cvtColor;
+import static org.bytedeco.opencv.global.opencv_imgproc.resize;
+
+/**
+ * 64-bit difference hash (dHash) of an image.
+ *
+ * The image is reduced to a 9x8 grayscale thumbnail and each bit records whether
+ * a pixel is brighter than its right neighbour. Consecutive camera frames of the
+ * same face differ in only a few bits, so the Hamming distance between two hashes
+ * measures visual similarity.
+ */
+public final class PerceptualHash {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Computes the dHash of a grayscale, BGR or BGRA Mat.
+     *
+     * @param image Image to hash
+     * @return 64-bit hash
+     */
+    public static long dHash(Mat image) {
+        if (image == null || image.empty()) {
+            throw new IllegalArgumentException("Mat is null or empty");
+        }
+
+        Mat gray = image;
+        if (image.channels() == 3) {
+            gray = new Mat();
+            cvtColor(image, gray, COLOR_BGR2GRAY);
+        } else if (image.channels() == 4) {
+            gray = new Mat();
+            cvtColor(image, gray, COLOR_BGRA2GRAY);
+        }
+
+        byte[] pixels = new byte[HASH_WIDTH * HASH_HEIGHT];
+        try (Mat thumbnail = new Mat(); Size size = new Size(HASH_WIDTH, HASH_HEIGHT)) {
+            resize(gray, thumbnail, size, 0, 0, INTER_AREA);
+            thumbnail.data().get(pixels);
+        } finally {
+            if (gray != image) {
+                gray.release();
+            }
+        }
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = pixels[y * HASH_WIDTH + x] & 0xFF;
+                int right = pixels[y * HASH_WIDTH + x + 1] & 0xFF;
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Number of differing bits between two hashes.
+     */
+    public static int hammingDistance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,99 @@
+package com.company.appearance.util.face;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * multipart/form-data request body that is written straight to the connection.
+ *
+ * Parts reference the caller's byte arrays instead of copying them into
+ * Resources, and no Content-Length is declared, so the request goes out with
+ * chunked transfer encoding and the body is never assembled in heap. The only
+ * extra memory per request is the part headers.
+ */
+public class StreamingMultipartBody implements StreamingHttpOutputMessage.Body {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] DASHES = {'-', '-'};
+
+    private final String boundary = "----FaceApiBoundary" + UUID.randomUUID().toString().replace("-", "");
+    private final List<Part> parts = new ArrayList<>();
+
+    /**
+     * Adds a text form field.
+     *
+     * @param name Field name
+     * @param value Field value
+     * @return This body
+     */
+    public StreamingMultipartBody addText(String name, String value) {
+        parts.add(new Part(name, null, MediaType.TEXT_PLAIN, value.getBytes(StandardCharsets.UTF_8)));
+        return this;
+    }
+
+    /**
+     * Adds a file part. The content array is written as-is and must not be modified until the request completes.
+     *
+     * @param name Field name
+     * @param filename Filename
+     * @param contentType Content type of the file
+     * @param content File content
+     * @return This body
+     */
+    public StreamingMultipartBody addFile(String name, String filename, MediaType contentType, byte[] content) {
+        parts.add(new Part(name, filename, contentType, content));
+        return this;
+    }
+
+    /**
+     * Gets the Content-Type header value, including the boundary.
+     *
+     * @return multipart/form-data media type
+     */
+    public MediaType getContentType() {
+        return new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", boundary));
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        byte[] boundaryBytes = boundary.getBytes(StandardCharsets.US_ASCII);
+        for (Part part : parts) {
+            outputStream.write(DASHES);
+            outputStream.write(boundaryBytes);
+            outputStream.write(CRLF);
+            outputStream.write(part.headers());
+            outputStream.write(part.content());
+            outputStream.write(CRLF);
+        }
+        outputStream.write(DASHES);
+        outputStream.write(boundaryBytes);
+        outputStream.write(DASHES);
+        outputStream.write(CRLF);
+        outputStream.flush();
+    }
+
+    private record Part(String name, String filename, MediaType contentType, byte[] content) {
+
+        byte[] headers() {
+            StringBuilder headers = new StringBuilder("Content-Disposition: form-data; name=\"")
+                .append(escape(name)).append('"');
+            if (filename != null) {
+                headers.append("; filename=\"").append(escape(filename)).append('"');
+            }
+            headers.append("\r\nContent-Type: ").append(contentType).append("\r\n\r\n");
+            return headers.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static String escape(String value) {
+            return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+        }
+    }
+}
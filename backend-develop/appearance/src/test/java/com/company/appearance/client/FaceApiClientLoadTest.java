@@ -0,0 +1,93 @@
+package com.company.appearance.client;
+
+import com.company.appearance.config.face.FaceApiProperties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test for sustained concurrent recognitions against a slow Face API.
+ *
+ * Drives the real FaceApiClient and connection pool against a local stub with a
+ * fixed latency, once from a Tomcat-sized platform thread pool and once from
+ * virtual threads (spring.threads.virtual.enabled). The pool is sized for every
+ * request at once so that only the request threads differ; the rate with the
+ * shipped face.api.max-connections is logged for comparison, as that pool then
+ * bounds throughput whatever the threads. The latency is long enough that the
+ * wait, not the client and stub CPU in this JVM, dominates on a small machine.
+ *
+ * Disabled by default. Run with:
+ *   mvn test -Dtest=FaceApiClientLoadTest -Dface.loadtest=true
+ */
+@EnabledIfSystemProperty(named = "face.loadtest", matches = "true")
+class FaceApiClientLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaceApiClientLoadTest.class);
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final long FACE_API_LATENCY_MS = 500;
+    private static final int LARGE_POOL = CONCURRENT_REQUESTS;
+    private static final int CONNECTION_REQUEST_TIMEOUT_MS = 60_000;
+
+    @Test
+    void virtualThreads_withSlowFaceApi_shouldSustainMoreConcurrentRecognitions() throws Exception {
+        try (StubFaceApiServer stub = new StubFaceApiServer(FACE_API_LATENCY_MS)) {
+            // Arrange
+            FaceApiClient client = stub.newClient(stub.newConnectionManager(LARGE_POOL), CONNECTION_REQUEST_TIMEOUT_MS);
+            int shippedPool = new FaceApiProperties().getMaxConnections();
+            FaceApiClient shippedClient = stub.newClient(stub.newConnectionManager(shippedPool),
+                CONNECTION_REQUEST_TIMEOUT_MS);
+            try (ExecutorService warmup = Executors.newVirtualThreadPerTaskExecutor()) {
+                run(client, warmup, 100);
+            }
+
+            // Act
+            double platformRate;
+            try (ExecutorService platform = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)) {
+                platformRate = run(client, platform, CONCURRENT_REQUESTS);
+            }
+            double virtualRate;
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                virtualRate = run(client, virtual, CONCURRENT_REQUESTS);
+            }
+            double shippedPoolRate;
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                shippedPoolRate = run(shippedClient, virtual, CONCURRENT_REQUESTS);
+            }
+
+            // Assert
+            logger.info("{} recognitions, Face API latency {} ms, pool {}: platform({})={}/s, virtual={}/s; "
+                    + "virtual with shipped pool {}={}/s, max in flight {}",
+                CONCURRENT_REQUESTS, FACE_API_LATENCY_MS, LARGE_POOL, TOMCAT_MAX_THREADS,
+                String.format("%.0f", platformRate), String.format("%.0f", virtualRate),
+                shippedPool, String.format("%.0f", shippedPoolRate), stub.maxInFlight());
+
+            assertTrue(virtualRate > platformRate * 1.5,
+                "Virtual threads should sustain far more concurrent recognitions than a 200-thread pool");
+        }
+    }
+
+    private double run(FaceApiClient client, ExecutorService executor, int requests) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> client.recognizeFace(new byte[]{1, 2, 3}, "magface", 0.5)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return requests / seconds;
+    }
+}
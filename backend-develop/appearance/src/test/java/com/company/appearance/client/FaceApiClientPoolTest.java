@@ -0,0 +1,81 @@
+package com.company.appearance.client;
+
+import com.company.appearance.exception.face.FaceApiException;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FaceApiClient over the pooled HTTP client from FaceApiHttpClientConfig.
+ *
+ * Callers run on virtual threads, as request handling does with
+ * spring.threads.virtual.enabled, against a local stub Face API with fixed latency.
+ */
+class FaceApiClientPoolTest {
+
+    private StubFaceApiServer stub;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    void recognizeFace_withManyVirtualCallers_shouldNeverExceedPoolSize() throws Exception {
+        // Arrange
+        stub = new StubFaceApiServer(50);
+        FaceApiClient client = stub.newClient(stub.newConnectionManager(10), 5000);
+        int requests = 200;
+
+        // Act
+        List<Future<Map<String, Object>>> results = new ArrayList<>(requests);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                results.add(callers.submit(() -> client.recognizeFace(new byte[]{1, 2, 3}, "magface", 0.5)));
+            }
+        }
+
+        // Assert
+        for (Future<Map<String, Object>> result : results) {
+            assertEquals("EMP001", result.get().get("name"));
+        }
+        assertEquals(10, stub.maxInFlight(), "Concurrent Face API calls should be capped by the connection pool");
+    }
+
+    @Test
+    void recognizeFace_whenPoolIsExhaustedPastRequestTimeout_shouldFailWithFaceApiException() throws Exception {
+        // Arrange: one pooled connection, held by a slow call that may wait for it as long as it needs
+        stub = new StubFaceApiServer(1000);
+        PoolingHttpClientConnectionManager pool = stub.newConnectionManager(1);
+        FaceApiClient patient = stub.newClient(pool, 10_000);
+        FaceApiClient impatient = stub.newClient(pool, 100);
+
+        // Act
+        Future<Map<String, Object>> first;
+        Future<Map<String, Object>> second;
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            first = callers.submit(() -> patient.recognizeFace(new byte[]{1}, "magface", 0.5));
+            assertTrue(stub.firstRequest().await(10, TimeUnit.SECONDS), "First call never reached the stub");
+            second = callers.submit(() -> impatient.recognizeFace(new byte[]{1}, "magface", 0.5));
+        }
+
+        // Assert
+        assertEquals("EMP001", first.get().get("name"));
+        ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(FaceApiException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.appearance.client;
+
+import com.company.appearance.config.face.FaceApiHttpClientConfig;
+import com.company.appearance.config.face.FaceApiProperties;
+import com.company.appearance.util.face.MultipartUtil;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stub of the Face API /recognize endpoint with a fixed latency, plus
+ * FaceApiClients wired like production (FaceApiHttpClientConfig) against it.
+ */
+class StubFaceApiServer implements AutoCloseable {
+
+    private static final byte[] RECOGNIZE_RESPONSE =
+        "{\"name\":\"EMP001\",\"confidence\":0.9}".getBytes(StandardCharsets.UTF_8);
+
+    static {
+        // The JDK server closes keep-alive connections beyond 200 idle ones, which a
+        // larger client pool would then reuse; read once when the server classes load
+        if (System.getProperty("sun.net.httpserver.maxIdleConnections") == null) {
+            System.setProperty("sun.net.httpserver.maxIdleConnections", "4096");
+        }
+    }
+
+    private final long latencyMs;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final CountDownLatch firstRequest = new CountDownLatch(1);
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    StubFaceApiServer(long latencyMs) throws IOException {
+        this.latencyMs = latencyMs;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        server.setExecutor(executor);
+        server.createContext("/recognize", this::recognize);
+        server.start();
+    }
+
+    /**
+     * Creates a connection pool sized for this stub.
+     */
+    PoolingHttpClientConnectionManager newConnectionManager(int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = new FaceApiHttpClientConfig()
+            .faceApiConnectionManager(properties(maxConnections, 5000), new SimpleMeterRegistry());
+        resources.add(connectionManager);
+        return connectionManager;
+    }
+
+    /**
+     * Creates a FaceApiClient over the given pool.
+     */
+    FaceApiClient newClient(PoolingHttpClientConnectionManager connectionManager, int connectionRequestTimeoutMs) {
+        FaceApiProperties properties = properties(connectionManager.getMaxTotal(), connectionRequestTimeoutMs);
+        CloseableHttpClient httpClient = new FaceApiHttpClientConfig().faceApiHttpClient(properties, connectionManager);
+        // Closed before the pool it shares
+        resources.add(0, httpClient);
+        return new FaceApiClient(properties, new MultipartUtil(), httpClient);
+    }
+
+    /**
+     * Highest number of requests the stub handled at the same time.
+     */
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * Released once the first request is being handled.
+     */
+    CountDownLatch firstRequest() {
+        return firstRequest;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private FaceApiProperties properties(int maxConnections, int connectionRequestTimeoutMs) {
+        FaceApiProperties properties = new FaceApiProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setMaxConnections(maxConnections);
+        properties.setMaxConnectionsPerRoute(maxConnections);
+        properties.setConnectionRequestTimeoutMs(connectionRequestTimeoutMs);
+        return properties;
+    }
+
+    private void recognize(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        firstRequest.countDown();
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(latencyMs);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RECOGNIZE_RESPONSE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RECOGNIZE_RESPONSE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
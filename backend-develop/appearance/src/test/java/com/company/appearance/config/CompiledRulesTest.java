@@ -0,0 +1,96 @@
+package com.company.appearance.config;
+
+import com.company.appearance.model.AppearanceCriteria;
+import com.company.appearance.model.AppearanceRule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for compiling rule-config.json rules into predicates.
+ */
+class CompiledRulesTest {
+
+    @Test
+    void compile_withKnownRules_shouldResolveInOrder() {
+        CompiledRules rules = CompiledRules.compile(config(List.of("shirt", "Tie")), "v1");
+
+        assertEquals(List.of(AppearanceRule.SHIRT, AppearanceRule.TIE), rules.getRequired());
+    }
+
+    @Test
+    void compile_withUnknownRule_shouldFail() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> CompiledRules.compile(config(List.of("shirt", "gloves")), "v1"));
+
+        assertTrue(e.getMessage().contains("gloves"));
+    }
+
+    @Test
+    void collectViolations_shouldReportUnsatisfiedRulesOnly() {
+        CompiledRules rules = CompiledRules.compile(config(List.of("shirt", "pants", "shoes")), "v1");
+        AppearanceCriteria criteria = new AppearanceCriteria();
+        criteria.setShirt(true);
+
+        assertEquals(
+                List.of("Pants do not meet the dress code", "Shoes do not meet the dress code"),
+                rules.collectViolations(criteria));
+        assertEquals(AppearanceRule.PANTS.getMask() | AppearanceRule.SHOES.getMask(), rules.violationMask(criteria));
+    }
+
+    @Test
+    void compile_withMinScoreAboveBase_shouldFail() {
+        RuleConfig config = config(List.of("shirt"));
+        config.getScore().setBase(50);
+        config.getScore().setMinScore(60);
+
+        assertThrows(IllegalStateException.class, () -> CompiledRules.compile(config, "v1"));
+    }
+
+    @Test
+    void ruleConfigLoader_shouldCompileBundledConfig() {
+        CompiledRules rules = new RuleConfigLoader(new RuleConfigProperties()).getCompiledRules();
+
+        assertFalse(rules.getRequired().isEmpty());
+        assertNotNull(rules.getVersion());
+    }
+
+    @Test
+    void ruleConfigLoader_shouldPublishValidChangesAndKeepVersionOnInvalidOnes(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("rule-config.json");
+        Files.writeString(file, json("[\"shirt\"]", 10));
+        RuleConfigProperties properties = new RuleConfigProperties();
+        properties.setLocation(file.toString());
+        RuleConfigLoader loader = new RuleConfigLoader(properties);
+        CompiledRules first = loader.getCompiledRules();
+
+        Files.writeString(file, json("[\"shirt\", \"tie\"]", 5));
+        assertTrue(loader.reload());
+        CompiledRules second = loader.getCompiledRules();
+        assertNotEquals(first.getVersion(), second.getVersion());
+        assertEquals(5, second.getScore().getPenaltyPerViolation());
+        // A snapshot taken before the reload is unchanged
+        assertEquals(10, first.getScore().getPenaltyPerViolation());
+
+        Files.writeString(file, json("[\"gloves\"]", 5));
+        assertFalse(loader.reload());
+        assertSame(second, loader.getCompiledRules());
+    }
+
+    private String json(String required, int penalty) {
+        return "{\"required\": " + required + ", \"score\": {\"base\": 100, \"penaltyPerViolation\": "
+                + penalty + ", \"minScore\": 60}}";
+    }
+
+    private RuleConfig config(List<String> required) {
+        RuleConfig config = new RuleConfig();
+        config.setRequired(required);
+        config.setScore(new RuleConfig.Score());
+        return config;
+    }
+}
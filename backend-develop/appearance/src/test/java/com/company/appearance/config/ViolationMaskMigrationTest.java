@@ -0,0 +1,77 @@
+package com.company.appearance.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ViolationMaskMigration.
+ */
+class ViolationMaskMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ViolationMaskMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        migration = new ViolationMaskMigration(jdbcTemplate, null);
+    }
+
+    @Test
+    void migrate_withLegacyTable_shouldArchiveWithoutForeignKeyAndDropIt() {
+        // Arrange
+        tableExists(ViolationMaskMigration.LEGACY_TABLE, true);
+        tableExists(ViolationMaskMigration.MIGRATED_TABLE, false);
+
+        // Act
+        migration.migrate();
+
+        // Assert
+        verify(jdbcTemplate).execute("CREATE TABLE " + ViolationMaskMigration.MIGRATED_TABLE
+                + " AS SELECT evaluation_id, violation FROM " + ViolationMaskMigration.LEGACY_TABLE);
+        verify(jdbcTemplate).execute("DROP TABLE " + ViolationMaskMigration.LEGACY_TABLE);
+        verify(jdbcTemplate, never()).execute(startsWith("RENAME TABLE"));
+    }
+
+    @Test
+    void migrate_withExistingArchive_shouldOnlyDropLegacyTable() {
+        // Arrange: a previous run copied the rows but stopped before dropping
+        tableExists(ViolationMaskMigration.LEGACY_TABLE, true);
+        tableExists(ViolationMaskMigration.MIGRATED_TABLE, true);
+
+        // Act
+        migration.migrate();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE"));
+        verify(jdbcTemplate).execute("DROP TABLE " + ViolationMaskMigration.LEGACY_TABLE);
+    }
+
+    @Test
+    void migrate_withoutLegacyTable_shouldNotTouchSchema() {
+        // Arrange
+        tableExists(ViolationMaskMigration.LEGACY_TABLE, false);
+
+        // Act
+        migration.migrate();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    private void tableExists(String table, boolean exists) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(table))).thenReturn(exists ? 1 : 0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.appearance.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EvaluationCursor.
+ */
+class EvaluationCursorTest {
+
+    @Test
+    void encode_thenDecode_shouldRoundTrip() {
+        // Arrange
+        LocalDateTime evaluatedAt = LocalDateTime.of(2025, 3, 14, 8, 30, 15, 123_000_000);
+        String token = new EvaluationCursor(evaluatedAt, 42L).encode();
+
+        // Act
+        EvaluationCursor decoded = EvaluationCursor.decode(token);
+
+        // Assert
+        assertEquals(evaluatedAt, decoded.getEvaluatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void decode_withInvalidBase64_shouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EvaluationCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void decode_withoutSeparator_shouldThrowException() {
+        // Arrange: base64url of "no-separator"
+        String token = "bm8tc2VwYXJhdG9y";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EvaluationCursor.decode(token));
+    }
+}
@@ -0,0 +1,48 @@
+package com.company.appearance.exception;
+
+import com.company.appearance.exception.face.FaceDetectionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchItemError.
+ */
+class BatchItemErrorTest {
+
+    @Test
+    void of_withIllegalArgument_shouldKeepMessage() {
+        // Act
+        BatchItemError error = BatchItemError.of(0, new IllegalArgumentException("Employee not found with ID: E1"));
+
+        // Assert
+        assertEquals("INVALID_ARGUMENT", error.code());
+        assertEquals("Employee not found with ID: E1", error.message());
+    }
+
+    @Test
+    void of_withServerError_shouldHideInternalDetails() {
+        // Arrange
+        FaceDetectionException cause = new FaceDetectionException("Failed to read image file",
+            new IllegalStateException("/tmp/upload-123.jpg"));
+
+        // Act
+        BatchItemError error = BatchItemError.of(1, cause);
+
+        // Assert
+        assertEquals("FACE_DETECTION_FAILED", error.code());
+        assertEquals("Face detection failed", error.message());
+    }
+
+    @Test
+    void of_withUnknownException_shouldReturnGenericError() {
+        // Act
+        BatchItemError error = BatchItemError.of(2, new NullPointerException("employee.getName() is null"));
+
+        // Assert
+        assertEquals("INTERNAL_ERROR", error.code());
+        assertEquals("Internal server error", error.message());
+        assertFalse(error.message().contains("NullPointerException"));
+    }
+}
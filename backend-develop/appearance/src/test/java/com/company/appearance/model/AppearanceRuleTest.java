@@ -0,0 +1,56 @@
+package com.company.appearance.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AppearanceRule bit masks.
+ */
+class AppearanceRuleTest {
+
+    @Test
+    void messagesOf_withSeveralBits_shouldDecodeInRuleOrder() {
+        // Arrange
+        int mask = AppearanceRule.TIE.getMask() | AppearanceRule.SHIRT.getMask();
+
+        // Act
+        List<String> messages = AppearanceRule.messagesOf(mask);
+
+        // Assert
+        assertEquals(List.of(AppearanceRule.SHIRT.getViolationMessage(), AppearanceRule.TIE.getViolationMessage()),
+                messages);
+    }
+
+    @Test
+    void messagesOf_withZeroMask_shouldReturnEmptyList() {
+        // Act & Assert
+        assertTrue(AppearanceRule.messagesOf(0).isEmpty());
+    }
+
+    @Test
+    void masksContaining_shouldListEveryCombinationWithTheRuleBit() {
+        // Act
+        List<Integer> masks = AppearanceRule.HAT.masksContaining();
+
+        // Assert
+        assertEquals(1 << (AppearanceRule.values().length - 1), masks.size());
+        assertTrue(masks.stream().allMatch(mask -> (mask & AppearanceRule.HAT.getMask()) != 0));
+        assertTrue(masks.contains(AppearanceRule.HAT.getMask() | AppearanceRule.SHOES.getMask()));
+    }
+
+    @Test
+    void fromViolation_withMessageOrKey_shouldReturnRule() {
+        // Act & Assert
+        assertEquals(AppearanceRule.PANTS, AppearanceRule.fromViolation("Pants do not meet the dress code"));
+        assertEquals(AppearanceRule.PANTS, AppearanceRule.fromViolation("pants"));
+    }
+
+    @Test
+    void fromViolation_withUnknownText_shouldReturnNull() {
+        // Act & Assert
+        assertNull(AppearanceRule.fromViolation("Unknown"));
+    }
+}
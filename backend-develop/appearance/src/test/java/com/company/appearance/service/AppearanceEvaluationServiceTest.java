@@ -0,0 +1,159 @@
+package com.company.appearance.service;
+
+import com.company.appearance.config.EvaluationProperties;
+import com.company.appearance.config.RuleConfigLoader;
+import com.company.appearance.config.RuleConfigProperties;
+import com.company.appearance.dto.AppearanceEvaluationBatchItem;
+import com.company.appearance.dto.AppearanceEvaluationBatchResponse;
+import com.company.appearance.dto.AppearanceEvaluationRequest;
+import com.company.appearance.dto.PoseData;
+import com.company.appearance.model.AppearanceCriteria;
+import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.Employee;
+import com.company.appearance.repository.AppearanceEvaluationRepository;
+import com.company.appearance.repository.EmployeeRepository;
+import com.company.appearance.service.integration.OutboxService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AppearanceEvaluationService batch evaluation.
+ */
+class AppearanceEvaluationServiceTest {
+
+    private AppearanceEvaluationRepository evaluationRepository;
+    private EmployeeRepository employeeRepository;
+    private OutboxService outboxService;
+    private EvaluationStatsService statsService;
+    private AppearanceEvaluationService service;
+
+    @BeforeEach
+    void setUp() {
+        evaluationRepository = mock(AppearanceEvaluationRepository.class);
+        employeeRepository = mock(EmployeeRepository.class);
+        outboxService = mock(OutboxService.class);
+        statsService = mock(EvaluationStatsService.class);
+        service = new AppearanceEvaluationService(new RuleConfigLoader(new RuleConfigProperties()),
+                evaluationRepository, employeeRepository, outboxService, new EvaluationProperties(), statsService);
+
+        when(employeeRepository.findAllById(any())).thenReturn(List.of(
+                new Employee("E1", "An", "Sales", "Staff"),
+                new Employee("E2", "Binh", "Kitchen", "Cook")));
+        // Assign ids in call order, as the pooled sequence does on persist
+        when(evaluationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AppearanceEvaluation> evaluations = invocation.getArgument(0);
+            long id = 100;
+            for (AppearanceEvaluation evaluation : evaluations) {
+                evaluation.setId(id++);
+            }
+            return evaluations;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evaluateBatch_withMixedItems_shouldMapEveryResultToItsInputIndex() {
+        // Arrange
+        List<AppearanceEvaluationRequest> requests = Arrays.asList(
+                request("E1", fullCriteria(), null),
+                request("E9", fullCriteria(), null),
+                null,
+                request("E2", fullCriteria(), crookedPose()),
+                request("E2", new AppearanceCriteria(), null),
+                request("E1", null, null));
+
+        // Act
+        AppearanceEvaluationBatchResponse response = service.evaluateBatch(requests);
+
+        // Assert
+        List<AppearanceEvaluationBatchItem> items = response.getResults();
+        assertEquals(6, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, items.get(i).getIndex());
+        }
+        assertEquals(3, response.getSucceeded());
+        assertEquals(3, response.getFailed());
+
+        assertEquals(100L, items.get(0).getResult().getId());
+        assertTrue(items.get(0).getResult().isPassed());
+
+        assertFalse(items.get(1).isSuccess());
+        assertEquals("INVALID_ARGUMENT", items.get(1).getErrorCode());
+        assertTrue(items.get(1).getError().contains("E9"));
+
+        assertFalse(items.get(2).isSuccess());
+        assertEquals("INVALID_ARGUMENT", items.get(2).getErrorCode());
+
+        assertTrue(items.get(3).isSuccess());
+        assertNull(items.get(3).getResult().getId());
+        assertFalse(items.get(3).getResult().isPoseStraight());
+
+        assertEquals(101L, items.get(4).getResult().getId());
+        assertEquals("E2", items.get(4).getResult().getEmployeeId());
+        assertFalse(items.get(4).getResult().isPassed());
+
+        assertFalse(items.get(5).isSuccess());
+        assertEquals("Criteria is required", items.get(5).getError());
+
+        ArgumentCaptor<List<AppearanceEvaluation>> saved = ArgumentCaptor.forClass(List.class);
+        verify(evaluationRepository).saveAll(saved.capture());
+        assertEquals(List.of("E1", "E2"),
+                saved.getValue().stream().map(evaluation -> evaluation.getEmployee().getId()).toList());
+        verify(statsService).record(saved.getValue());
+        verify(outboxService).enqueue(eq(saved.getValue()), any());
+    }
+
+    @Test
+    void evaluateBatch_withTooManyItems_shouldThrowException() {
+        // Arrange
+        EvaluationProperties properties = new EvaluationProperties();
+        properties.setBatchMaxItems(1);
+        AppearanceEvaluationService limited = new AppearanceEvaluationService(
+                new RuleConfigLoader(new RuleConfigProperties()), evaluationRepository, employeeRepository,
+                outboxService, properties, statsService);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> limited.evaluateBatch(List.of(request("E1", fullCriteria(), null),
+                        request("E2", fullCriteria(), null))));
+    }
+
+    private AppearanceEvaluationRequest request(String employeeId, AppearanceCriteria criteria, PoseData pose) {
+        AppearanceEvaluationRequest request = new AppearanceEvaluationRequest();
+        request.setEmployeeId(employeeId);
+        request.setCriteria(criteria);
+        request.setPose(pose);
+        return request;
+    }
+
+    private AppearanceCriteria fullCriteria() {
+        AppearanceCriteria criteria = new AppearanceCriteria();
+        criteria.setHat(true);
+        criteria.setHair(true);
+        criteria.setTie(true);
+        criteria.setShirt(true);
+        criteria.setPants(true);
+        criteria.setShoes(true);
+        return criteria;
+    }
+
+    private PoseData crookedPose() {
+        PoseData pose = new PoseData();
+        pose.setHeadTilt(30);
+        pose.setStabilityScore(90);
+        return pose;
+    }
+}
@@ -0,0 +1,124 @@
+package com.company.appearance.service;
+
+import com.company.appearance.dto.DailyEvaluationStats;
+import com.company.appearance.model.AppearanceCriteria;
+import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.Employee;
+import com.company.appearance.repository.AppearanceEvaluationRepository;
+import com.company.appearance.repository.EvaluationDailyRollupRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EvaluationStatsService.
+ */
+class EvaluationStatsServiceTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 1, 5, 8, 0);
+
+    private EvaluationDailyRollupRepository rollupRepository;
+    private AppearanceEvaluationRepository evaluationRepository;
+    private EvaluationStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository = mock(EvaluationDailyRollupRepository.class);
+        evaluationRepository = mock(AppearanceEvaluationRepository.class);
+        service = new EvaluationStatsService(rollupRepository, evaluationRepository);
+    }
+
+    @Test
+    void record_withSeveralEvaluations_shouldUpsertOncePerDayDepartmentAndEmployee() {
+        // Arrange
+        Employee an = new Employee("E1", "An", "Sales", "Staff");
+        Employee binh = new Employee("E2", "Binh", null, "Cook");
+        List<AppearanceEvaluation> evaluations = List.of(
+                evaluation(an, true, 100, MONDAY),
+                evaluation(an, false, 80, MONDAY.plusHours(2)),
+                evaluation(an, true, 100, MONDAY.plusDays(1)),
+                evaluation(binh, false, 60, MONDAY));
+
+        // Act
+        service.record(evaluations);
+
+        // Assert
+        verify(rollupRepository).increment(LocalDate.of(2026, 1, 5), "Sales", "E1", 2, 1, 180);
+        verify(rollupRepository).increment(LocalDate.of(2026, 1, 6), "Sales", "E1", 1, 1, 100);
+        verify(rollupRepository).increment(LocalDate.of(2026, 1, 5), "", "E2", 1, 0, 60);
+        verify(rollupRepository, times(3)).increment(any(), anyString(), anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void getPassRate_shouldAggregateAcrossDays() {
+        // Arrange
+        when(rollupRepository.findDailyStats()).thenReturn(List.of(
+                new DailyEvaluationStats(LocalDate.of(2026, 1, 5), 4L, 3L, 360L),
+                new DailyEvaluationStats(LocalDate.of(2026, 1, 6), 6L, 2L, 500L)));
+
+        // Act
+        double passRate = service.getPassRate(null, null);
+
+        // Assert
+        assertEquals(50.0, passRate, 1e-9);
+    }
+
+    @Test
+    void getPassRate_withNoEvaluations_shouldReturnZero() {
+        // Arrange
+        when(rollupRepository.findDailyStats()).thenReturn(List.of());
+
+        // Act & Assert
+        assertEquals(0.0, service.getPassRate(null, null));
+    }
+
+    @Test
+    void getDailyStats_withFromAfterTo_shouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDailyStats(LocalDate.of(2026, 1, 6), LocalDate.of(2026, 1, 5), null));
+    }
+
+    @Test
+    void backfill_withExistingRollup_shouldSkipInsert() {
+        // Arrange
+        when(rollupRepository.count()).thenReturn(3L);
+
+        // Act
+        service.backfill();
+
+        // Assert
+        verify(rollupRepository, never()).backfillFromEvaluations();
+    }
+
+    @Test
+    void backfill_withEmptyRollupAndEvaluations_shouldInsertFromEvaluations() {
+        // Arrange
+        when(rollupRepository.count()).thenReturn(0L);
+        when(evaluationRepository.count()).thenReturn(10L);
+
+        // Act
+        service.backfill();
+
+        // Assert
+        verify(rollupRepository).backfillFromEvaluations();
+    }
+
+    private AppearanceEvaluation evaluation(Employee employee, boolean passed, int score, LocalDateTime evaluatedAt) {
+        return new AppearanceEvaluation(employee, new AppearanceCriteria(), passed, score, 0, null, evaluatedAt);
+    }
+}
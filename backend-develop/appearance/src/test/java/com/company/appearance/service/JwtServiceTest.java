@@ -0,0 +1,70 @@
+package com.company.appearance.service;
+
+import com.company.appearance.config.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtService access token parsing.
+ */
+class JwtServiceTest {
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("TestSecretKeyForJWTTokenGenerationMustBeAtLeast512BitsLongForTheHS512Algorithm");
+        properties.setExpirationSeconds(3600L);
+        properties.setRefreshExpirationSeconds(7200L);
+        jwtService = new JwtService(properties);
+    }
+
+    @Test
+    void parseAccessToken_withRepeatedToken_shouldVerifyOnceAndServeFromCache() {
+        // Arrange
+        String token = jwtService.generateAccessToken("evaluator", "EVALUATOR");
+
+        // Act
+        Claims first = jwtService.parseAccessToken(token);
+        Claims second = jwtService.parseAccessToken(token);
+
+        // Assert
+        assertNotNull(first);
+        assertEquals("evaluator", first.getSubject());
+        assertEquals("EVALUATOR", first.get("role", String.class));
+        assertSame(first, second);
+        assertTrue(jwtService.validateToken(token));
+    }
+
+    @Test
+    void parseAccessToken_withRefreshToken_shouldReturnNull() {
+        // Arrange
+        String refreshToken = jwtService.generateRefreshToken("evaluator", "EVALUATOR");
+
+        // Act
+        Claims claims = jwtService.parseAccessToken(refreshToken);
+
+        // Assert
+        assertNull(claims);
+        assertTrue(jwtService.validateRefreshToken(refreshToken));
+    }
+
+    @Test
+    void parseAccessToken_withTamperedSignature_shouldReturnNull() {
+        // Arrange
+        String accessToken = jwtService.generateAccessToken("evaluator", "EVALUATOR");
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // Act
+        Claims claims = jwtService.parseAccessToken(tampered);
+
+        // Assert
+        assertNull(claims);
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.appearance.service.face;
+
+import com.company.appearance.config.face.FaceDetectionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.bytedeco.opencv.opencv_core.Size;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.bytedeco.opencv.global.opencv_core.CV_8UC3;
+import static org.bytedeco.opencv.global.opencv_imgcodecs.imread;
+import static org.bytedeco.opencv.global.opencv_imgproc.resize;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency benchmark for full-resolution vs fast (downscaled grayscale) detection on 12MP images.
+ *
+ * Disabled by default. Run with:
+ *   mvn test -Dtest=FaceDetectionBenchmarkTest -Dface.benchmark=true [-Dface.benchmark.image=/path/photo.jpg]
+ *
+ * Without an image path a synthetic 4000x3000 noise image is used, which measures
+ * the cascade scan cost but finds no faces.
+ */
+@EnabledIfSystemProperty(named = "face.benchmark", matches = "true")
+class FaceDetectionBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaceDetectionBenchmarkTest.class);
+
+    private static final int WIDTH = 4000;
+    private static final int HEIGHT = 3000;
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+
+    @Test
+    void fastMode_on12MegapixelImage_shouldBeFasterThanFullResolution() {
+        Mat image = load12MegapixelImage();
+        try {
+            long fullNanos = measure(image, false);
+            long fastNanos = measure(image, true);
+
+            logger.info("12MP detection: full={} ms, fast={} ms, speedup={}x",
+                String.format("%.1f", fullNanos / 1e6), String.format("%.1f", fastNanos / 1e6),
+                String.format("%.1f", (double) fullNanos / fastNanos));
+
+            assertTrue(fastNanos < fullNanos, "Fast mode should be faster than full-resolution detection");
+        } finally {
+            image.release();
+        }
+    }
+
+    private long measure(Mat image, boolean fastMode) {
+        FaceDetectionProperties properties = new FaceDetectionProperties();
+        properties.setFastMode(fastMode);
+        FaceDetectionService service = new FaceDetectionService(properties, new SimpleMeterRegistry());
+        service.init();
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                detectIgnoringMisses(service, image);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                detectIgnoringMisses(service, image);
+            }
+            return (System.nanoTime() - start) / ITERATIONS;
+        } finally {
+            service.close();
+        }
+    }
+
+    private void detectIgnoringMisses(FaceDetectionService service, Mat image) {
+        try {
+            service.detectBestFace(image);
+        } catch (IllegalArgumentException e) {
+            // No face in synthetic input - only latency matters here
+        }
+    }
+
+    private Mat load12MegapixelImage() {
+        String path = System.getProperty("face.benchmark.image");
+        if (path != null && Files.exists(Path.of(path))) {
+            Mat source = imread(path);
+            Mat scaled = new Mat();
+            try (Size size = new Size(WIDTH, HEIGHT)) {
+                resize(source, scaled, size);
+            }
+            source.release();
+            return scaled;
+        }
+
+        byte[] pixels = new byte[WIDTH * HEIGHT * 3];
+        new Random(42).nextBytes(pixels);
+        Mat noise = new Mat(HEIGHT, WIDTH, CV_8UC3);
+        noise.data().put(pixels);
+        return noise;
+    }
+}
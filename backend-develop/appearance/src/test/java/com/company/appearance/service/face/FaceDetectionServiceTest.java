@@ -0,0 +1,101 @@
+package com.company.appearance.service.face;
+
+import com.company.appearance.model.face.FaceBox;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FaceDetectionService non-maximum suppression.
+ */
+class FaceDetectionServiceTest {
+
+    private static final double IOU_THRESHOLD = 0.3;
+
+    @Test
+    void suppressOverlaps_withOverlappingBoxes_shouldKeepOne() {
+        // Arrange: IoU = 8000 / 12000 = 0.67
+        FaceBox first = box(0, 0, 100, 100);
+        FaceBox shifted = box(20, 0, 100, 100);
+
+        // Act
+        List<FaceBox> kept = FaceDetectionService.suppressOverlaps(List.of(first, shifted), IOU_THRESHOLD, 10);
+
+        // Assert
+        assertEquals(List.of(first), kept);
+    }
+
+    @Test
+    void suppressOverlaps_withSlightOverlap_shouldKeepBoth() {
+        // Arrange: IoU = 1000 / 19000 = 0.05, 10% of the smaller box inside the larger
+        FaceBox left = box(0, 0, 100, 100);
+        FaceBox right = box(90, 0, 100, 100);
+
+        // Act
+        List<FaceBox> kept = FaceDetectionService.suppressOverlaps(List.of(left, right), IOU_THRESHOLD, 10);
+
+        // Assert
+        assertEquals(2, kept.size());
+    }
+
+    @Test
+    void suppressOverlaps_withNestedBox_shouldDropInnerBoxBelowIouThreshold() {
+        // Arrange: IoU = 3600 / 40000 = 0.09, but the inner box is fully contained
+        FaceBox outer = box(0, 0, 200, 200);
+        FaceBox inner = box(50, 50, 60, 60);
+
+        // Act
+        List<FaceBox> kept = FaceDetectionService.suppressOverlaps(List.of(inner, outer), IOU_THRESHOLD, 10);
+
+        // Assert
+        assertEquals(List.of(outer), kept);
+    }
+
+    @Test
+    void suppressOverlaps_withBoxMostlyOutside_shouldKeepItBelowContainmentThreshold() {
+        // Arrange: 1200 / 3600 = 33% of the small box lies inside the large one
+        FaceBox outer = box(0, 0, 200, 200);
+        FaceBox edge = box(180, 0, 60, 60);
+
+        // Act
+        List<FaceBox> kept = FaceDetectionService.suppressOverlaps(List.of(outer, edge), IOU_THRESHOLD, 10);
+
+        // Assert
+        assertEquals(List.of(outer, edge), kept);
+    }
+
+    @Test
+    void suppressOverlaps_withDisjointBoxes_shouldKeepAllLargestFirst() {
+        // Arrange
+        FaceBox small = box(0, 0, 50, 50);
+        FaceBox large = box(300, 0, 150, 150);
+        FaceBox medium = box(0, 300, 100, 100);
+
+        // Act
+        List<FaceBox> kept = FaceDetectionService.suppressOverlaps(List.of(small, large, medium), IOU_THRESHOLD, 10);
+
+        // Assert
+        assertEquals(List.of(large, medium, small), kept);
+    }
+
+    @Test
+    void suppressOverlaps_withMoreFacesThanCap_shouldKeepLargest() {
+        // Arrange
+        FaceBox small = box(0, 0, 50, 50);
+        FaceBox large = box(300, 0, 150, 150);
+        FaceBox medium = box(0, 300, 100, 100);
+
+        // Act
+        List<FaceBox> kept = FaceDetectionService.suppressOverlaps(List.of(small, large, medium), IOU_THRESHOLD, 2);
+
+        // Assert
+        assertEquals(List.of(large, medium), kept);
+    }
+
+    private static FaceBox box(int x, int y, int width, int height) {
+        return new FaceBox(x, y, width, height, 0.0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.company.appearance.service.face;
+
+import com.company.appearance.config.face.FaceApiProperties;
+import com.company.appearance.util.face.PerceptualHash;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.bytedeco.opencv.opencv_core.Point;
+import org.bytedeco.opencv.opencv_core.Scalar;
+import org.bytedeco.opencv.opencv_core.Size;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+
+import static org.bytedeco.opencv.global.opencv_core.CV_8UC3;
+import static org.bytedeco.opencv.global.opencv_imgcodecs.imread;
+import static org.bytedeco.opencv.global.opencv_imgproc.LINE_AA;
+import static org.bytedeco.opencv.global.opencv_imgproc.ellipse;
+import static org.bytedeco.opencv.global.opencv_imgproc.line;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FaceRecognitionCache.
+ */
+class FaceRecognitionCacheTest {
+
+    private static final long HASH = 0x0F0F_F0F0_1234_5678L;
+
+    private FaceApiProperties properties;
+    private FaceRecognitionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FaceApiProperties();
+        properties.setRecognitionCacheMaxDistance(4);
+        properties.setRecognitionCacheMaxSize(2);
+        cache = new FaceRecognitionCache(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_withNearDuplicateHash_shouldHit() {
+        cache.put("magface", 0.5, HASH, Map.of("name", "EMP001"), cache.generation());
+
+        // 3 bits differ
+        assertEquals("EMP001", cache.get("magface", 0.5, HASH ^ 0b111L).get("name"));
+    }
+
+    @Test
+    void get_withDistantHashOrOtherModel_shouldMiss() {
+        cache.put("magface", 0.5, HASH, Map.of("name", "EMP001"), cache.generation());
+
+        assertNull(cache.get("magface", 0.5, ~HASH));
+        assertNull(cache.get("qmagface", 0.5, HASH));
+        assertNull(cache.get("magface", 0.6, HASH));
+    }
+
+    @Test
+    void invalidateAll_shouldClearAndRejectStalePuts() {
+        long generation = cache.generation();
+        cache.put("magface", 0.5, HASH, Map.of("name", "EMP001"), generation);
+
+        cache.invalidateAll("test");
+        cache.put("magface", 0.5, HASH, Map.of("name", "EMP001"), generation);
+
+        assertNull(cache.get("magface", 0.5, HASH));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_beyondMaxSize_shouldEvictLeastRecentlyUsed() {
+        cache.put("magface", 0.5, 0L, Map.of("name", "A"), cache.generation());
+        cache.put("magface", 0.5, -1L, Map.of("name", "B"), cache.generation());
+        cache.get("magface", 0.5, 0L);
+        cache.put("magface", 0.5, 0x00FF_00FF_00FF_00FFL, Map.of("name", "C"), cache.generation());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("magface", 0.5, 0L));
+        assertNull(cache.get("magface", 0.5, -1L));
+    }
+
+    @Test
+    void get_whenDisabled_shouldAlwaysMiss() {
+        properties.setRecognitionCacheEnabled(false);
+        FaceRecognitionCache disabled = new FaceRecognitionCache(properties, new SimpleMeterRegistry());
+        disabled.put("magface", 0.5, HASH, Map.of("name", "EMP001"), disabled.generation());
+
+        assertNull(disabled.get("magface", 0.5, HASH));
+    }
+
+    @Test
+    void get_withoutNearMatch_shouldOnlyHitExactHash() {
+        // Arrange
+        cache.put("magface", 0.5, HASH, Map.of("name", "EMP001"), cache.generation());
+
+        // Act & Assert
+        assertNull(cache.get("magface", 0.5, HASH ^ 0b1L, false));
+        assertEquals("EMP001", cache.get("magface", 0.5, HASH, false).get("name"));
+    }
+
+    @Test
+    void get_withDifferentFaceOfSameSizeAndPose_shouldMissAtDefaultDistance() {
+        // Arrange: two different people drawn at the same crop size and pose
+        FaceRecognitionCache defaults = new FaceRecognitionCache(new FaceApiProperties(), new SimpleMeterRegistry());
+        long first = hashOf(drawFace(52, -15, 22, 45, 150, 16, 2));
+        long second = hashOf(drawFace(58, -10, 25, 35, 120, 20, -3));
+        defaults.put("magface", 0.5, first, Map.of("name", "EMP001"), defaults.generation());
+
+        // Act
+        Map<String, Object> cached = defaults.get("magface", 0.5, second);
+
+        // Assert
+        assertNull(cached, "different faces " + PerceptualHash.hammingDistance(first, second) + " bits apart");
+    }
+
+    /**
+     * Same check on real crops of two different people. Run with:
+     *   mvn test -Dtest=FaceRecognitionCacheTest -Dface.cache.crops=/path/person-a.jpg,/path/person-b.jpg
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "face.cache.crops", matches = ".+,.+")
+    void get_withRealCropsOfDifferentPeople_shouldMissAtDefaultDistance() {
+        // Arrange
+        String[] paths = System.getProperty("face.cache.crops").split(",");
+        FaceRecognitionCache defaults = new FaceRecognitionCache(new FaceApiProperties(), new SimpleMeterRegistry());
+        long first = hashOf(imread(paths[0].trim()));
+        long second = hashOf(imread(paths[1].trim()));
+        defaults.put("magface", 0.5, first, Map.of("name", "EMP001"), defaults.generation());
+
+        // Act
+        Map<String, Object> cached = defaults.get("magface", 0.5, second);
+
+        // Assert
+        assertNull(cached, "different faces " + PerceptualHash.hammingDistance(first, second) + " bits apart");
+    }
+
+    private static long hashOf(Mat image) {
+        try {
+            return PerceptualHash.dHash(image);
+        } finally {
+            image.release();
+        }
+    }
+
+    /**
+     * Draws a frontal 160x200 face crop: hair, skin oval, eyes with brows, nose and mouth.
+     */
+    private static Mat drawFace(int faceWidth, int eyeOffset, int eyeGap, int hairHeight, int skin, int mouthWidth,
+                                int browTilt) {
+        Mat crop = new Mat(200, 160, CV_8UC3, new Scalar(90, 90, 90, 0));
+        int cx = 80;
+        int cy = 105;
+        ellipse(crop, new Point(cx, cy - 35), new Size(faceWidth + 8, hairHeight), 0, 0, 360,
+                new Scalar(30, 30, 40, 0), -1, LINE_AA, 0);
+        ellipse(crop, new Point(cx, cy), new Size(faceWidth, 75), 0, 0, 360,
+                new Scalar(skin - 30, skin, skin + 30, 0), -1, LINE_AA, 0);
+        for (int side = -1; side <= 1; side += 2) {
+            int eyeX = cx + side * eyeGap;
+            int eyeY = cy + eyeOffset;
+            ellipse(crop, new Point(eyeX, eyeY), new Size(9, 5), 0, 0, 360, new Scalar(40, 40, 40, 0), -1, LINE_AA, 0);
+            line(crop, new Point(cx + side * (eyeGap - 10), eyeY - 12),
+                    new Point(cx + side * (eyeGap + 10), eyeY - 12 - browTilt), new Scalar(25, 25, 25, 0), 3, LINE_AA, 0);
+        }
+        line(crop, new Point(cx, cy + eyeOffset + 8), new Point(cx - 4, cy + 22),
+                new Scalar(skin - 60, skin - 40, skin - 20, 0), 2, LINE_AA, 0);
+        ellipse(crop, new Point(cx, cy + 42), new Size(mouthWidth, 6), 0, 0, 180,
+                new Scalar(60, 60, 150, 0), -1, LINE_AA, 0);
+        return crop;
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.appearance.service.integration;
+
+import com.company.appearance.config.google.GoogleChatProperties;
+import com.company.appearance.dto.integration.AppearanceEvaluationSnapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GoogleChatNotificationService message building.
+ */
+class GoogleChatNotificationServiceTest {
+
+    private final GoogleChatNotificationService service = new GoogleChatNotificationService(new GoogleChatProperties());
+
+    @Test
+    void buildDigestMessage_shouldGroupByDepartmentWithCountsViolationsAndFailingEmployees() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2026, 1, 5, 8, 0);
+        List<AppearanceEvaluationSnapshot> snapshots = List.of(
+                snapshot(1L, "E1", "Binh", "Sales", false, List.of("Missing tie", "Hair"), start),
+                snapshot(2L, "E2", "An", "Sales", false, List.of("Missing tie"), start.plusMinutes(1)),
+                snapshot(3L, "E3", "Chi", "Sales", true, List.of(), start.plusMinutes(2)),
+                snapshot(4L, "E4", "Dung", "Kitchen", true, List.of(), start.plusMinutes(3)));
+
+        // Act
+        String message = service.buildDigestMessage(snapshots);
+
+        // Assert
+        assertTrue(message.contains("*Period:* 2026-01-05 08:00:00 - 2026-01-05 08:03:00"));
+        assertTrue(message.contains("*Evaluations:* 4 (✅ 2 passed, ❌ 2 failed)"));
+        assertTrue(message.contains("*Kitchen:* 1 passed, 0 failed"));
+        assertTrue(message.contains("*Sales:* 1 passed, 2 failed"));
+        assertTrue(message.contains("Top violations: Missing tie (2), Hair (1)"));
+        assertTrue(message.indexOf("*Kitchen:*") < message.indexOf("*Sales:*"));
+        assertTrue(message.indexOf("• An (E2)") < message.indexOf("• Binh (E1)"));
+        assertFalse(message.contains("Chi (E3)"));
+    }
+
+    private AppearanceEvaluationSnapshot snapshot(Long id, String employeeId, String name, String department,
+            boolean passed, List<String> violations, LocalDateTime evaluatedAt) {
+        return new AppearanceEvaluationSnapshot(id, employeeId, name, department, "Staff", passed,
+                passed ? 100 : 60, violations, evaluatedAt, null,
+                true, true, true, true, true, true, "evaluator");
+    }
+}
@@ -0,0 +1,247 @@
+package com.company.appearance.service.integration;
+
+import com.company.appearance.config.OutboxProperties;
+import com.company.appearance.config.google.GoogleChatProperties;
+import com.company.appearance.config.google.GoogleSheetsProperties;
+import com.company.appearance.model.AppearanceCriteria;
+import com.company.appearance.model.AppearanceEvaluation;
+import com.company.appearance.model.Employee;
+import com.company.appearance.model.OutboxChannel;
+import com.company.appearance.model.OutboxEvent;
+import com.company.appearance.model.OutboxStatus;
+import com.company.appearance.repository.AppearanceEvaluationRepository;
+import com.company.appearance.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OutboxService.
+ */
+class OutboxServiceTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private AppearanceEvaluationRepository appearanceEvaluationRepository;
+    private GoogleChatNotificationService googleChatNotificationService;
+    private PlatformTransactionManager transactionManager;
+    private OutboxProperties properties;
+    private GoogleChatProperties googleChatProperties;
+    private OutboxService service;
+    private List<OutboxEvent> dueEvents;
+    private List<AppearanceEvaluation> dueEvaluations;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        appearanceEvaluationRepository = mock(AppearanceEvaluationRepository.class);
+        googleChatNotificationService = mock(GoogleChatNotificationService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        properties = new OutboxProperties();
+        properties.setMaxAttempts(3);
+        googleChatProperties = new GoogleChatProperties();
+        service = new OutboxService(outboxEventRepository, appearanceEvaluationRepository,
+                googleChatNotificationService, mock(GoogleSheetsExportService.class),
+                googleChatProperties, new GoogleSheetsProperties(), properties,
+                new SimpleMeterRegistry(), transactionManager);
+
+        dueEvents = new ArrayList<>();
+        dueEvaluations = new ArrayList<>();
+        when(outboxEventRepository.findDueForUpdate(eq(OutboxChannel.GOOGLE_CHAT), eq(OutboxStatus.PENDING),
+                any(), any())).thenReturn(dueEvents);
+        when(appearanceEvaluationRepository.findByIdIn(any())).thenReturn(dueEvaluations);
+    }
+
+    @Test
+    void backoffMillis_shouldStayBetweenHalfAndFullDelay() {
+        for (int attempt = 1; attempt <= 4; attempt++) {
+            // Arrange
+            long delay = properties.getInitialBackoffMs() << (attempt - 1);
+
+            for (int sample = 0; sample < 200; sample++) {
+                // Act
+                long backoff = service.backoffMillis(attempt);
+
+                // Assert
+                assertTrue(backoff >= delay / 2 && backoff <= delay,
+                        "attempt " + attempt + " gave " + backoff + "ms");
+            }
+        }
+    }
+
+    @Test
+    void backoffMillis_withManyAttempts_shouldBeCappedAtMaxBackoff() {
+        // Arrange
+        long cap = properties.getMaxBackoffMs();
+
+        for (int attempt : new int[] {20, 40, 64}) {
+            // Act
+            long backoff = service.backoffMillis(attempt);
+
+            // Assert
+            assertTrue(backoff >= cap / 2 && backoff <= cap, "attempt " + attempt + " gave " + backoff + "ms");
+        }
+    }
+
+    @Test
+    void dispatch_whenDeliveryFailsBeforeMaxAttempts_shouldScheduleRetry() {
+        // Arrange
+        OutboxEvent event = due(1L, 0);
+        doThrow(new RestClientException("503")).when(googleChatNotificationService).send(any());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        boolean more = service.dispatch(OutboxChannel.GOOGLE_CHAT);
+
+        // Assert
+        assertFalse(more);
+        assertEquals(OutboxStatus.PENDING, event.getStatus());
+        assertEquals(1, event.getAttempts());
+        assertEquals("503", event.getLastError());
+        long delay = properties.getInitialBackoffMs();
+        assertFalse(event.getNextAttemptAt().isBefore(before.plus(delay / 2, ChronoUnit.MILLIS)));
+        assertFalse(event.getNextAttemptAt().isAfter(LocalDateTime.now().plus(delay, ChronoUnit.MILLIS)));
+        verify(outboxEventRepository).saveAll(List.of(event));
+    }
+
+    @Test
+    void dispatch_whenLastAttemptFails_shouldDeadLetterRow() {
+        // Arrange
+        OutboxEvent event = due(1L, properties.getMaxAttempts() - 1);
+        doThrow(new RestClientException("404")).when(googleChatNotificationService).send(any());
+
+        // Act
+        service.dispatch(OutboxChannel.GOOGLE_CHAT);
+
+        // Assert
+        assertEquals(OutboxStatus.DEAD, event.getStatus());
+        assertEquals(properties.getMaxAttempts(), event.getAttempts());
+        assertNotNull(event.getProcessedAt());
+        verify(outboxEventRepository).saveAll(List.of(event));
+    }
+
+    @Test
+    void dispatch_withChatFailure_shouldStopAtFirstFailureAndReleaseTheRest() {
+        // Arrange
+        OutboxEvent sent = due(1L, 0);
+        OutboxEvent failed = due(2L, 0);
+        OutboxEvent untried = due(3L, 0);
+        doNothing()
+                .doThrow(new RestClientException("429"))
+                .when(googleChatNotificationService).send(any());
+
+        // Act
+        boolean more = service.dispatch(OutboxChannel.GOOGLE_CHAT);
+
+        // Assert
+        assertFalse(more);
+        verify(googleChatNotificationService, times(2)).send(any());
+        assertEquals(OutboxStatus.SENT, sent.getStatus());
+        assertEquals(OutboxStatus.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertEquals(OutboxStatus.PENDING, untried.getStatus());
+        assertEquals(0, untried.getAttempts());
+        assertFalse(untried.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verify(outboxEventRepository).saveAll(List.of(sent, failed, untried));
+    }
+
+    @Test
+    void dispatch_whenDigestFails_shouldRetryEveryRowAtTheSameTime() {
+        // Arrange
+        googleChatProperties.setDigestEnabled(true);
+        googleChatProperties.setDigestMaxSize(3);
+        OutboxEvent first = due(1L, 0);
+        OutboxEvent retried = due(2L, 1);
+        OutboxEvent last = due(3L, 0);
+        doThrow(new RestClientException("500")).when(googleChatNotificationService).sendDigest(any());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        boolean more = service.dispatch(OutboxChannel.GOOGLE_CHAT);
+
+        // Assert
+        assertFalse(more);
+        assertEquals(first.getNextAttemptAt(), retried.getNextAttemptAt());
+        assertEquals(first.getNextAttemptAt(), last.getNextAttemptAt());
+        // Backed off from the most retried row (second attempt: half of 2 * initial at least)
+        assertFalse(first.getNextAttemptAt().isBefore(before.plus(properties.getInitialBackoffMs(), ChronoUnit.MILLIS)));
+        assertEquals(List.of(1, 2, 1), List.of(first.getAttempts(), retried.getAttempts(), last.getAttempts()));
+    }
+
+    @Test
+    void dispatch_shouldDeliverLeasedRowsBetweenClaimAndRecordTransactions() {
+        // Arrange
+        OutboxEvent event = due(1L, 0);
+        List<LocalDateTime> nextAttemptAtDuringSend = new ArrayList<>();
+        doAnswer(invocation -> {
+            nextAttemptAtDuringSend.add(event.getNextAttemptAt());
+            return null;
+        }).when(googleChatNotificationService).send(any());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        service.dispatch(OutboxChannel.GOOGLE_CHAT);
+
+        // Assert
+        InOrder order = inOrder(transactionManager, googleChatNotificationService, outboxEventRepository);
+        order.verify(transactionManager).commit(any());
+        order.verify(googleChatNotificationService).send(any());
+        order.verify(outboxEventRepository).saveAll(List.of(event));
+        order.verify(transactionManager).commit(any());
+        assertFalse(nextAttemptAtDuringSend.get(0)
+                .isBefore(before.plus(properties.getLeaseMs(), ChronoUnit.MILLIS)));
+        assertEquals(OutboxStatus.SENT, event.getStatus());
+    }
+
+    @Test
+    void dispatch_withDeletedEvaluation_shouldDeadLetterInClaim() {
+        // Arrange
+        OutboxEvent event = due(1L, 0);
+        dueEvaluations.clear();
+
+        // Act
+        service.dispatch(OutboxChannel.GOOGLE_CHAT);
+
+        // Assert
+        assertEquals(OutboxStatus.DEAD, event.getStatus());
+        verify(googleChatNotificationService, never()).send(any());
+    }
+
+    /**
+     * Registers a due Google Chat row for an existing evaluation with the given id.
+     */
+    private OutboxEvent due(long id, int attempts) {
+        OutboxEvent event = new OutboxEvent(OutboxChannel.GOOGLE_CHAT, id, "admin", LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "attempts", attempts);
+        dueEvents.add(event);
+
+        AppearanceEvaluation evaluation = new AppearanceEvaluation(new Employee("E" + id, "An", "Sales", "Staff"),
+                new AppearanceCriteria(), true, 100, 0, null, LocalDateTime.now());
+        evaluation.setId(id);
+        dueEvaluations.add(evaluation);
+        return event;
+    }
+}
@@ -0,0 +1,87 @@
+package com.company.appearance.util.face;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+import static org.bytedeco.opencv.global.opencv_core.CV_8UC3;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput benchmark for the OpenCV and ImageIO JPEG encoders on typical crop sizes.
+ *
+ * Correctness of each encoder is covered by OpenCvImageEncoderTest and
+ * ImageIoImageEncoderTest; this class only measures timing.
+ *
+ * Disabled by default. Run with:
+ *   mvn test -Dtest=ImageEncoderBenchmarkTest -Dface.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "face.benchmark", matches = "true")
+class ImageEncoderBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageEncoderBenchmarkTest.class);
+
+    private static final int[][] CROP_SIZES = {{112, 112}, {224, 224}, {400, 500}, {800, 1000}};
+    private static final int QUALITY = 90;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private final ImageEncoder openCv = new OpenCvImageEncoder();
+    private final ImageEncoder imageIo = new ImageIoImageEncoder();
+
+    @Test
+    void openCvEncoder_onTypicalCrops_shouldBeFasterThanImageIO() {
+        for (int[] size : CROP_SIZES) {
+            Mat crop = syntheticCrop(size[0], size[1]);
+            try {
+                long openCvNanos = measure(openCv, crop);
+                long imageIoNanos = measure(imageIo, crop);
+
+                logger.info("{}x{} JPEG q{}: opencv={} ms, imageio={} ms, speedup={}x",
+                    size[0], size[1], QUALITY, String.format("%.3f", openCvNanos / 1e6),
+                    String.format("%.3f", imageIoNanos / 1e6),
+                    String.format("%.1f", (double) imageIoNanos / openCvNanos));
+
+                assertTrue(openCvNanos < imageIoNanos,
+                    "OpenCV encoder should be faster than ImageIO for " + size[0] + "x" + size[1]);
+            } finally {
+                crop.release();
+            }
+        }
+    }
+
+    private long measure(ImageEncoder encoder, Mat crop) {
+        for (int i = 0; i < WARMUP; i++) {
+            encoder.encodeJpeg(crop, QUALITY);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encoder.encodeJpeg(crop, QUALITY);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    /**
+     * Smooth gradient with light noise, closer to a face crop than pure noise.
+     */
+    private Mat syntheticCrop(int width, int height) {
+        byte[] pixels = new byte[width * height * 3];
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int offset = (y * width + x) * 3;
+                int base = (x * 255 / width + y * 255 / height) / 2;
+                pixels[offset] = (byte) Math.min(255, base + random.nextInt(8));
+                pixels[offset + 1] = (byte) Math.min(255, base / 2 + random.nextInt(8));
+                pixels[offset + 2] = (byte) Math.min(255, 255 - base + random.nextInt(8));
+            }
+        }
+        Mat mat = new Mat(height, width, CV_8UC3);
+        mat.data().put(pixels);
+        return mat;
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.appearance.util.face;
+
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.bytedeco.opencv.global.opencv_core.CV_8UC1;
+import static org.bytedeco.opencv.global.opencv_core.CV_8UC3;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ImageIoImageEncoder.
+ */
+class ImageIoImageEncoderTest {
+
+    private ImageEncoder encoder;
+    private Mat crop;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new ImageIoImageEncoder();
+        crop = gradient(224, 224, CV_8UC3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        crop.release();
+    }
+
+    @Test
+    void encodeJpeg_withBgrMat_shouldProduceJpeg() {
+        // Act
+        byte[] bytes = encoder.encodeJpeg(crop, 90);
+
+        // Assert
+        assertTrue(bytes.length > 2);
+        assertEquals((byte) 0xFF, bytes[0]);
+        assertEquals((byte) 0xD8, bytes[1]);
+    }
+
+    @Test
+    void encodeJpeg_withLowerQuality_shouldProduceSmallerOutput() {
+        // Act
+        byte[] high = encoder.encodeJpeg(crop, 95);
+        byte[] low = encoder.encodeJpeg(crop, 20);
+
+        // Assert
+        assertTrue(low.length < high.length);
+    }
+
+    @Test
+    void encodeJpeg_withGrayscaleMat_shouldProduceJpeg() {
+        // Arrange
+        Mat gray = gradient(112, 112, CV_8UC1);
+
+        try {
+            // Act
+            byte[] bytes = encoder.encodeJpeg(gray, 90);
+
+            // Assert
+            assertEquals((byte) 0xFF, bytes[0]);
+            assertEquals((byte) 0xD8, bytes[1]);
+        } finally {
+            gray.release();
+        }
+    }
+
+    @Test
+    void encodePng_withBgrMat_shouldProducePng() {
+        // Act
+        byte[] bytes = encoder.encodePng(crop);
+
+        // Assert
+        assertTrue(bytes.length > 4);
+        assertEquals((byte) 0x89, bytes[0]);
+        assertEquals((byte) 'P', bytes[1]);
+        assertEquals((byte) 'N', bytes[2]);
+        assertEquals((byte) 'G', bytes[3]);
+    }
+
+    @Test
+    void encodeJpeg_withEmptyMat_shouldThrowException() {
+        // Arrange
+        Mat empty = new Mat();
+
+        try {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> encoder.encodeJpeg(empty, 90));
+            assertThrows(IllegalArgumentException.class, () -> encoder.encodeJpeg(null, 90));
+        } finally {
+            empty.release();
+        }
+    }
+
+    private Mat gradient(int width, int height, int type) {
+        int channels = type == CV_8UC1 ? 1 : 3;
+        byte[] pixels = new byte[width * height * channels];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                for (int c = 0; c < channels; c++) {
+                    pixels[(y * width + x) * channels + c] = (byte) ((x * 255 / width + y * 255 / height + c * 40) / 2);
+                }
+            }
+        }
+        Mat mat = new Mat(height, width, type);
+        mat.data().put(pixels);
+        return mat;
+    }
+}